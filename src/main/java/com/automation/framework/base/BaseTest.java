@@ -1,6 +1,7 @@
 package com.automation.framework.base;
 
 import com.automation.framework.config.ConfigManager;
+import com.automation.framework.context.TestContext;
 import com.automation.framework.driver.DriverManager;
 
 import org.apache.logging.log4j.LogManager;
@@ -27,9 +28,9 @@ public abstract class BaseTest {
         
         logger.info("Setting up test: {}.{}", className, testName);
         
-        // Override browser from parameter if provided
+        // Override browser from parameter if provided; republishes the config snapshot
         if (browser != null && !browser.isEmpty()) {
-            System.setProperty("browser", browser);
+            config.setOverride("browser", browser);
         }
         
         try {
@@ -53,6 +54,9 @@ public abstract class BaseTest {
             logger.info("Test teardown completed for: {}.{}", className, testName);
         } catch (Exception e) {
             logger.error("Failed to teardown test: {}.{}", className, testName, e);
+        } finally {
+            // Worker threads are pooled, the next test on this thread must not see this one's state
+            TestContext.clear();
         }
     }
 
@@ -0,0 +1,13 @@
+package com.automation.framework.config;
+
+/**
+ * Notified when ConfigManager publishes a new configuration snapshot, e.g. after the configuration file changed
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called once per published snapshot that differs from the previous one, on the thread that published it
+     */
+    void onChange(ConfigSnapshot previous, ConfigSnapshot current);
+}
@@ -3,20 +3,59 @@ package com.automation.framework.config;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
- * Configuration Manager for handling application properties
+ * Configuration Manager for handling application properties.
+ * Settings are read from an immutable ConfigSnapshot published through a volatile reference,
+ * so getters on hot paths take no locks and parse nothing. The configuration is loaded from the file
+ * named by the config.file system property, or from config/application.properties on the classpath;
+ * when that is a plain file it is watched, and every valid change is swapped in as a new snapshot
+ * and announced to the registered ConfigChangeListeners.
  */
 public class ConfigManager {
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
-    private static ConfigManager instance;
+    private static final String CONFIG_FILE_PROPERTY = "config.file";
+    private static final String CLASSPATH_RESOURCE = "config/application.properties";
+    // Settings that may be given as system properties without appearing in the configuration file
+    private static final List<String> SYSTEM_PROPERTY_PREFIXES = List.of("proxy.", "driver.admission.memory.cost.");
+    private static volatile ConfigManager instance;
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
     private Properties properties;
+    private volatile ConfigSnapshot snapshot;
+    // Plain file the configuration came from, or null when it was read from inside a jar
+    private Path configFile;
+    private WatchService watchService;
 
     private ConfigManager() {
         loadProperties();
+        refresh();
+        if (configFile != null && snapshot.reload().enabled()) {
+            startWatching();
+        }
     }
 
     public static ConfigManager getInstance() {
@@ -31,24 +70,201 @@ public class ConfigManager {
     }
 
     private void loadProperties() {
+        String override = System.getProperty(CONFIG_FILE_PROPERTY);
+        if (override != null && !override.isBlank()) {
+            configFile = Paths.get(override).toAbsolutePath();
+            try {
+                properties = readFile(configFile);
+                logger.info("Configuration loaded successfully from: {}", configFile);
+            } catch (IOException e) {
+                logger.error("Failed to load configuration from: {}", configFile, e);
+                throw new RuntimeException("Configuration file not found: " + configFile, e);
+            }
+            return;
+        }
+
+        URL resource = ConfigManager.class.getClassLoader().getResource(CLASSPATH_RESOURCE);
+        if (resource == null) {
+            throw new RuntimeException("Configuration file not found on the classpath: " + CLASSPATH_RESOURCE);
+        }
         properties = new Properties();
-        String configPath = "src/main/resources/config/application.properties";
-        
-        try (FileInputStream fis = new FileInputStream(configPath)) {
-            properties.load(fis);
-            logger.info("Configuration loaded successfully from: {}", configPath);
+        try (InputStream in = resource.openStream()) {
+            properties.load(in);
+            logger.info("Configuration loaded successfully from: {}", resource);
         } catch (IOException e) {
-            logger.error("Failed to load configuration from: {}", configPath, e);
-            throw new RuntimeException("Configuration file not found: " + configPath, e);
+            logger.error("Failed to load configuration from: {}", resource, e);
+            throw new RuntimeException("Configuration file could not be read: " + resource, e);
+        }
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                configFile = Paths.get(resource.toURI());
+            } catch (URISyntaxException e) {
+                logger.debug("Configuration at {} cannot be watched: {}", resource, e.getMessage());
+            }
         }
     }
 
-    public String getProperty(String key) {
-        String value = System.getProperty(key);
-        if (value == null) {
-            value = properties.getProperty(key);
+    private static Properties readFile(Path file) throws IOException {
+        Properties loaded = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            loaded.load(in);
+        }
+        return loaded;
+    }
+
+    /**
+     * Current configuration; hold on to it to read several settings that must be consistent with each other
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Register a listener for configuration changes
+     */
+    public void addListener(ConfigChangeListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    public void removeListener(ConfigChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Rebuild the snapshot from the configuration file and the current system properties that override its
+     * settings. System properties set after startup are only seen after a refresh.
+     *
+     * @throws IllegalArgumentException when a setting is invalid; the previous snapshot stays in place
+     */
+    public synchronized void refresh() {
+        publish(ConfigSnapshot.from(merge(properties)));
+    }
+
+    /**
+     * Override a setting for the rest of the run, as -Dkey=value would
+     */
+    public synchronized void setOverride(String key, String value) {
+        System.setProperty(key, value);
+        refresh();
+    }
+
+    /**
+     * Re-read the configuration file and publish it when it is valid; an invalid file is logged and ignored
+     */
+    public synchronized void reload() {
+        if (configFile == null) {
+            return;
+        }
+        Properties loaded;
+        ConfigSnapshot next;
+        try {
+            loaded = readFile(configFile);
+            next = ConfigSnapshot.from(merge(loaded));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Ignoring configuration change in {}: {}", configFile, e.getMessage());
+            return;
+        }
+        properties = loaded;
+        publish(next);
+    }
+
+    private static Map<String, String> merge(Properties fileProperties) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : fileProperties.stringPropertyNames()) {
+            values.put(key, fileProperties.getProperty(key));
+        }
+        // Only settings of this framework: JVM, WebDriverManager and driver path properties are not configuration
+        Properties system = System.getProperties();
+        for (String key : system.stringPropertyNames()) {
+            if (fileProperties.containsKey(key) || SYSTEM_PROPERTY_PREFIXES.stream().anyMatch(key::startsWith)) {
+                values.put(key, system.getProperty(key));
+            }
+        }
+        return values;
+    }
+
+    private void publish(ConfigSnapshot next) {
+        ConfigSnapshot previous = snapshot;
+        if (next.equals(previous)) {
+            return;
+        }
+        snapshot = next;
+        if (previous == null) {
+            return;
+        }
+        Set<String> changed = new TreeSet<>(previous.properties().keySet());
+        changed.addAll(next.properties().keySet());
+        changed.removeIf(key -> Objects.equals(previous.properties().get(key), next.properties().get(key)));
+        logger.info("Configuration changed: {}", changed);
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onChange(previous, next);
+            } catch (RuntimeException e) {
+                logger.warn("Configuration listener {} failed: {}", listener, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void startWatching() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            // Editors often replace the file instead of writing it, so watch the directory for both
+            configFile.getParent().register(watchService, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_CREATE);
+        } catch (IOException e) {
+            logger.warn("Cannot watch {} for changes: {}", configFile, e.getMessage());
+            return;
+        }
+        Thread watcher = new Thread(this::watch, "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stopWatching, "config-watcher-stop"));
+        logger.info("Watching {} for configuration changes", configFile);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = affectsConfigFile(key);
+                // Let a burst of writes settle so a half-written file is not read
+                long debounce = snapshot.reload().debounceMillis();
+                WatchKey next;
+                while (changed && (next = watchService.poll(debounce, TimeUnit.MILLISECONDS)) != null) {
+                    affectsConfigFile(next);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Configuration watcher stopped");
+        }
+    }
+
+    private boolean affectsConfigFile(WatchKey key) {
+        boolean affected = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (configFile.getFileName().equals(event.context())) {
+                affected = true;
+            }
         }
-        return value;
+        key.reset();
+        return affected;
+    }
+
+    private void stopWatching() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Could not close configuration watcher: {}", e.getMessage());
+        }
+    }
+
+    public String getProperty(String key) {
+        return snapshot.properties().get(key);
     }
 
     public String getProperty(String key, String defaultValue) {
@@ -77,147 +293,355 @@ public class ConfigManager {
         }
     }
 
+    public List<String> getListProperty(String key) {
+        String value = getProperty(key, "");
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public double getDoubleProperty(String key, double defaultValue) {
+        String value = getProperty(key);
+        try {
+            return value != null ? Double.parseDouble(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     // Browser Configuration
     public String getBrowser() {
-        return getProperty("browser", "chrome");
+        return snapshot.browser().name();
     }
 
     public boolean isBrowserHeadless() {
-        return getBooleanProperty("browser.headless");
+        return snapshot.browser().headless();
     }
 
     public boolean isBrowserMaximize() {
-        return getBooleanProperty("browser.maximize");
+        return snapshot.browser().maximize();
     }
 
     public boolean isBrowserIncognito() {
-        return getBooleanProperty("browser.incognito");
+        return snapshot.browser().incognito();
     }
 
     public int getBrowserWindowWidth() {
-        return getIntProperty("browser.window.width", 1920);
+        return snapshot.browser().windowWidth();
     }
 
     public int getBrowserWindowHeight() {
-        return getIntProperty("browser.window.height", 1080);
+        return snapshot.browser().windowHeight();
+    }
+
+    public String getPageLoadStrategy() {
+        return snapshot.browser().pageLoadStrategy();
+    }
+
+    public boolean isProfileTemplateEnabled() {
+        return snapshot.browser().profileTemplateEnabled();
+    }
+
+    public String getProfileTemplateDirectory() {
+        return snapshot.browser().profileTemplateDirectory();
+    }
+
+    // Request Blocking Configuration
+    public boolean isRequestBlockingEnabled() {
+        return snapshot.browser().requestBlockingEnabled();
+    }
+
+    public List<String> getBlockedUrlPatterns() {
+        return snapshot.browser().blockedUrlPatterns();
+    }
+
+    public Set<String> getBlockedResourceTypes() {
+        return snapshot.browser().blockedResourceTypes();
     }
 
     // Test Configuration
     public int getThreadCount() {
-        return getIntProperty("test.thread.count", 1);
+        return snapshot.execution().threadCount();
     }
 
     public int getRetryCount() {
-        return getIntProperty("test.retry.count", 1);
+        return snapshot.execution().retryCount();
     }
 
     public int getImplicitTimeout() {
-        return getIntProperty("test.timeout.implicit", 10);
+        return snapshot.timeouts().implicitSeconds();
     }
 
     public int getExplicitTimeout() {
-        return getIntProperty("test.timeout.explicit", 30);
+        return snapshot.timeouts().explicitSeconds();
     }
 
     public int getPageLoadTimeout() {
-        return getIntProperty("test.timeout.page.load", 60);
+        return snapshot.timeouts().pageLoadSeconds();
+    }
+
+    public int getPresenceCheckMillis() {
+        return snapshot.timeouts().presenceCheckMillis();
+    }
+
+    public boolean isReactiveWaitEnabled() {
+        return snapshot.waits().reactive();
+    }
+
+    public long getWaitPollInitialMillis() {
+        return snapshot.waits().pollInitialMillis();
+    }
+
+    public long getWaitPollMaxMillis() {
+        return snapshot.waits().pollMaxMillis();
+    }
+
+    public double getWaitPollBackoff() {
+        return snapshot.waits().pollBackoff();
+    }
+
+    public String getWaitStatsFile() {
+        return snapshot.waits().statsFile();
+    }
+
+    public double getWaitSlowFactor() {
+        return snapshot.waits().slowFactor();
+    }
+
+    public int getNetworkIdleQuietMillis() {
+        return snapshot.waits().networkQuietMillis();
+    }
+
+    public int getNetworkIdleMaxInflight() {
+        return snapshot.waits().networkMaxInflight();
+    }
+
+    public String getExecutionMode() {
+        return snapshot.execution().mode();
+    }
+
+    public int getVirtualMaxConcurrency() {
+        return snapshot.execution().virtualMaxConcurrency();
     }
 
     // Environment Configuration
     public String getBaseUrl() {
-        return getProperty("base.url", "https://www.saucedemo.com/v1/index.html");
+        return snapshot.environment().baseUrl();
     }
 
     public String getEnvironment() {
-        return getProperty("environment", "dev");
+        return snapshot.environment().name();
     }
 
     // Reporting Configuration
     public boolean isExtentReportsEnabled() {
-        return getBooleanProperty("reports.extent.enabled");
+        return snapshot.reporting().extentEnabled();
     }
     
     public boolean isScreenshotsEnabled() {
-        return getBooleanProperty("reports.screenshots.enabled");
+        return snapshot.reporting().screenshotsEnabled();
     }
 
     public boolean isScreenshotOnFailure() {
-        return getBooleanProperty("reports.screenshots.on.failure");
+        return snapshot.reporting().screenshotOnFailure();
     }
 
     public boolean isScreenshotOnPass() {
-        return getBooleanProperty("reports.screenshots.on.pass");
+        return snapshot.reporting().screenshotOnPass();
     }
 
     // Test Data Configuration
     public String getTestDataPath() {
-        return getProperty("testdata.path", "src/test/resources/testdata/");
+        return snapshot.testData().path();
     }
 
     public String getTestDataFormat() {
-        return getProperty("testdata.format", "json");
+        return snapshot.testData().format();
     }
 
     // Driver Management Configuration
     public boolean isDriverAutoDownload() {
-        return getBooleanProperty("driver.auto.download", true);
+        return snapshot.drivers().autoDownload();
     }
 
     public boolean isDriverOfflineMode() {
-        return getBooleanProperty("driver.offline.mode", false);
+        return snapshot.drivers().offlineMode();
     }
 
     public String getDriverCachePath() {
-        return getProperty("driver.cache.path", "./drivers/.cache");
+        return snapshot.drivers().cachePath();
     }
 
     public String getDriverLocalPath() {
-        return getProperty("driver.local.path", "./drivers");
+        return snapshot.drivers().localPath();
     }
 
     public int getDriverDownloadTimeout() {
-        return getIntProperty("driver.download.timeout", 30);
+        return snapshot.drivers().downloadTimeoutSeconds();
+    }
+
+    // Driver Pool Configuration
+    public boolean isDriverPoolEnabled() {
+        return snapshot.pool().enabled();
+    }
+
+    public int getDriverPoolMaxIdle() {
+        return snapshot.pool().maxIdle();
+    }
+
+    public int getDriverPoolMaxUses() {
+        return snapshot.pool().maxUses();
+    }
+
+    public String getSessionResetStrategy() {
+        return snapshot.pool().resetStrategy();
+    }
+
+    public boolean isDriverPrefetchEnabled() {
+        return snapshot.pool().prefetchEnabled();
+    }
+
+    public int getDriverPrefetchMaxInFlight() {
+        return snapshot.pool().prefetchMaxInFlight();
+    }
+
+    public int getDriverPrefetchDepth() {
+        return snapshot.pool().prefetchDepth();
+    }
+
+    public boolean isDriverServiceShared() {
+        return snapshot.pool().serviceShared();
+    }
+
+    // Driver HTTP Client Configuration
+    public int getDriverHttpConnectTimeoutSeconds() {
+        return snapshot.http().connectTimeoutSeconds();
+    }
+
+    public int getDriverHttpReadTimeoutSeconds() {
+        return snapshot.http().readTimeoutSeconds();
+    }
+
+    public String getDriverHttpVersion() {
+        return snapshot.http().version();
+    }
+
+    public int getDriverHttpKeepAliveSeconds() {
+        return snapshot.http().keepAliveSeconds();
+    }
+
+    public int getDriverHttpPoolSize() {
+        return snapshot.http().poolSize();
+    }
+
+    public boolean isDriverHttpMetricsEnabled() {
+        return snapshot.http().metricsEnabled();
+    }
+
+    // Session Reaper Configuration
+    public boolean isReaperEnabled() {
+        return snapshot.reaper().enabled();
+    }
+
+    public int getReaperIntervalSeconds() {
+        return snapshot.reaper().intervalSeconds();
+    }
+
+    public int getReaperGraceSeconds() {
+        return snapshot.reaper().graceSeconds();
+    }
+
+    // Session Admission Configuration
+    public boolean isAdmissionControlEnabled() {
+        return snapshot.admission().enabled();
+    }
+
+    public int getAdmissionMaxSessions() {
+        return snapshot.admission().maxSessions();
+    }
+
+    public int getAdmissionMemoryReserveMb() {
+        return snapshot.admission().memoryReserveMb();
+    }
+
+    public int getBrowserMemoryCostMb(String browser) {
+        return snapshot.admission().memoryCostMb(browser);
+    }
+
+    public double getAdmissionMaxLoadPerCpu() {
+        return snapshot.admission().maxLoadPerCpu();
+    }
+
+    public int getAdmissionTimeoutSeconds() {
+        return snapshot.admission().timeoutSeconds();
+    }
+
+    // Connectivity Probe Configuration
+    public String getConnectivityProbeUrl() {
+        return snapshot.connectivity().probeUrl();
+    }
+
+    public int getConnectivityProbeTimeoutMillis() {
+        return snapshot.connectivity().probeTimeoutMillis();
+    }
+
+    public int getConnectivityProbeTtlSeconds() {
+        return snapshot.connectivity().probeTtlSeconds();
+    }
+
+    public int getConnectivityBreakerFailureThreshold() {
+        return snapshot.connectivity().breakerFailureThreshold();
+    }
+
+    public int getConnectivityBreakerCooldownSeconds() {
+        return snapshot.connectivity().breakerCooldownSeconds();
+    }
+
+    // Page Object Configuration
+    public boolean isElementCacheEnabled() {
+        return snapshot.pages().elementCacheEnabled();
     }
 
     // Proxy Configuration
     public boolean isProxyEnabled() {
-        return getBooleanProperty("proxy.enabled", false);
+        return snapshot.proxy().enabled();
     }
 
     public String getProxyHost() {
-        return getProperty("proxy.host", "");
+        return snapshot.proxy().host();
     }
 
     public int getProxyPort() {
-        return getIntProperty("proxy.port", 8080);
+        return snapshot.proxy().port();
     }
 
     public String getProxyUsername() {
-        return getProperty("proxy.username", "");
+        return snapshot.proxy().username();
     }
 
     public String getProxyPassword() {
-        return getProperty("proxy.password", "");
+        return snapshot.proxy().password();
     }
 
     public String getNonProxyHosts() {
-        return getProperty("proxy.non.proxy.hosts", "localhost|127.0.0.1");
+        return snapshot.proxy().nonProxyHosts();
     }
 
     // WebDriverManager Configuration
     public int getWebDriverManagerTimeout() {
-        return getIntProperty("webdrivermanager.timeout", 30);
+        return snapshot.webDriverManager().timeoutSeconds();
     }
 
     public boolean isWebDriverManagerCacheEnabled() {
-        return getBooleanProperty("webdrivermanager.cache.enabled", true);
+        return snapshot.webDriverManager().cacheEnabled();
     }
 
     public boolean isWebDriverManagerOfflineEnabled() {
-        return getBooleanProperty("webdrivermanager.offline.enabled", false);
+        return snapshot.webDriverManager().offlineEnabled();
     }
 
     public boolean isWebDriverManagerForceCache() {
-        return getBooleanProperty("webdrivermanager.force.cache", false);
+        return snapshot.webDriverManager().forceCache();
     }
 }
\ No newline at end of file
@@ -0,0 +1,397 @@
+package com.automation.framework.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, typed view of the configuration at one point in time. Every setting is parsed, defaulted
+ * and validated once when the snapshot is built, so reading one is a plain field load. ConfigManager
+ * publishes the current snapshot through a volatile reference and replaces it as a whole.
+ *
+ * @param properties raw values the snapshot was built from: the configuration file overlaid with system properties
+ */
+public record ConfigSnapshot(Map<String, String> properties, Browser browser, Execution execution,
+                             Timeouts timeouts, Waits waits, Environment environment, Reporting reporting,
+                             TestData testData, Drivers drivers, Pool pool, Http http, Reaper reaper,
+                             Admission admission, Connectivity connectivity, Proxy proxy, Wdm webDriverManager,
+                             Pages pages, Reload reload) {
+
+    private static final String MEMORY_COST_PREFIX = "driver.admission.memory.cost.";
+
+    public ConfigSnapshot {
+        properties = Map.copyOf(properties);
+    }
+
+    /**
+     * Parse and validate the raw values
+     *
+     * @throws IllegalArgumentException listing every setting that is malformed or out of range
+     */
+    public static ConfigSnapshot from(Map<String, String> properties) {
+        Reader reader = new Reader(properties);
+
+        Set<String> blockedTypes = reader.list("browser.block.resource.types").stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Browser browser = new Browser(
+                reader.text("browser", "chrome").trim().toLowerCase(),
+                reader.flag("browser.headless", false),
+                reader.flag("browser.maximize", false),
+                reader.flag("browser.incognito", false),
+                reader.integer("browser.window.width", 1920, 1),
+                reader.integer("browser.window.height", 1080, 1),
+                reader.oneOf("browser.page.load.strategy", "normal", "normal", "eager", "none"),
+                reader.flag("browser.profile.template.enabled", false),
+                reader.text("browser.profile.template.dir", ""),
+                reader.flag("browser.block.enabled", false),
+                reader.list("browser.block.url.patterns"),
+                Collections.unmodifiableSet(blockedTypes));
+
+        Execution execution = new Execution(
+                reader.integer("test.thread.count", 1, 1),
+                reader.integer("test.retry.count", 1, 0),
+                reader.oneOf("test.execution.mode", "platform", "platform", "virtual"),
+                reader.integer("test.execution.virtual.max.concurrency", 64, 1));
+
+        Timeouts timeouts = new Timeouts(
+                reader.integer("test.timeout.implicit", 10, 0),
+                reader.integer("test.timeout.explicit", 30, 0),
+                reader.integer("test.timeout.page.load", 60, 0),
+                reader.integer("test.timeout.presence.check.ms", 2000, 0));
+
+        Waits waits = new Waits(
+                reader.flag("test.wait.reactive.enabled", true),
+                reader.integer("test.wait.poll.initial.ms", 20, 1),
+                reader.integer("test.wait.poll.max.ms", 500, 1),
+                reader.decimal("test.wait.poll.backoff", 1.6, 1.0),
+                reader.text("test.wait.stats.file", "test-output/wait-stats.properties"),
+                reader.decimal("test.wait.slow.factor", 3.0, 1.0),
+                reader.integer("test.wait.network.quiet.ms", 500, 0),
+                reader.integer("test.wait.network.max.inflight", 0, 0));
+
+        Environment environment = new Environment(
+                reader.text("base.url", "https://www.saucedemo.com/v1/index.html"),
+                reader.text("environment", "dev"));
+
+        Reporting reporting = new Reporting(
+                reader.flag("reports.extent.enabled", false),
+                reader.flag("reports.screenshots.enabled", false),
+                reader.flag("reports.screenshots.on.failure", false),
+                reader.flag("reports.screenshots.on.pass", false));
+
+        TestData testData = new TestData(
+                reader.text("testdata.path", "src/test/resources/testdata/"),
+                reader.text("testdata.format", "json"));
+
+        Drivers drivers = new Drivers(
+                reader.flag("driver.auto.download", true),
+                reader.flag("driver.offline.mode", false),
+                reader.text("driver.cache.path", "./drivers/.cache"),
+                reader.text("driver.local.path", "./drivers"),
+                reader.integer("driver.download.timeout", 30, 0));
+
+        Pool pool = new Pool(
+                reader.flag("driver.pool.enabled", false),
+                reader.integer("driver.pool.max.idle", 3, 0),
+                reader.integer("driver.pool.max.uses", 50, 0),
+                reader.text("driver.session.reset.strategy", "windows,storage,cookies,blank"),
+                reader.flag("driver.prefetch.enabled", false),
+                reader.integer("driver.prefetch.max.inflight", 2, 0),
+                reader.integer("driver.prefetch.depth", 1, 0),
+                reader.flag("driver.service.shared", false));
+
+        Http http = new Http(
+                reader.integer("driver.http.connect.timeout.seconds", 10, 1),
+                reader.integer("driver.http.read.timeout.seconds", 180, 1),
+                reader.oneOf("driver.http.version", "HTTP_1_1", "HTTP_1_1", "HTTP_2"),
+                reader.integer("driver.http.keepalive.seconds", 300, 0),
+                reader.integer("driver.http.pool.size", 4, 0),
+                reader.flag("driver.http.metrics.enabled", false));
+
+        Reaper reaper = new Reaper(
+                reader.flag("driver.reaper.enabled", false),
+                reader.integer("driver.reaper.interval.seconds", 30, 1),
+                reader.integer("driver.reaper.grace.seconds", 10, 0));
+
+        Map<String, Integer> memoryCosts = new HashMap<>();
+        for (String key : properties.keySet()) {
+            if (key.startsWith(MEMORY_COST_PREFIX)) {
+                memoryCosts.put(key.substring(MEMORY_COST_PREFIX.length()), reader.integer(key, 500, 0));
+            }
+        }
+        Admission admission = new Admission(
+                reader.flag("driver.admission.enabled", false),
+                reader.integer("driver.admission.max.sessions", 0, 0),
+                reader.integer("driver.admission.memory.reserve.mb", 1024, 0),
+                Map.copyOf(memoryCosts),
+                reader.decimal("driver.admission.max.load.per.cpu", 1.5, 0.0),
+                reader.integer("driver.admission.timeout.seconds", 600, 0));
+
+        Connectivity connectivity = new Connectivity(
+                reader.text("connectivity.probe.url", "https://www.saucedemo.com/v1/index.html"),
+                reader.integer("connectivity.probe.timeout.ms", 2000, 1),
+                reader.integer("connectivity.probe.ttl.seconds", 300, 0),
+                reader.integer("connectivity.breaker.failure.threshold", 3, 1),
+                reader.integer("connectivity.breaker.cooldown.seconds", 600, 0));
+
+        Proxy proxy = new Proxy(
+                reader.flag("proxy.enabled", false),
+                reader.text("proxy.host", ""),
+                reader.integer("proxy.port", 8080, 1),
+                reader.text("proxy.username", ""),
+                reader.text("proxy.password", ""),
+                reader.text("proxy.non.proxy.hosts", "localhost|127.0.0.1"));
+
+        Wdm webDriverManager = new Wdm(
+                reader.integer("webdrivermanager.timeout", 30, 0),
+                reader.flag("webdrivermanager.cache.enabled", true),
+                reader.flag("webdrivermanager.offline.enabled", false),
+                reader.flag("webdrivermanager.force.cache", false));
+
+        Pages pages = new Pages(
+                reader.flag("page.element.cache.enabled", false));
+
+        Reload reload = new Reload(
+                reader.flag("config.reload.enabled", false),
+                reader.integer("config.reload.debounce.ms", 200, 0));
+
+        if (waits.pollMaxMillis() < waits.pollInitialMillis()) {
+            reader.problem("test.wait.poll.max.ms must not be below test.wait.poll.initial.ms");
+        }
+        if (proxy.enabled() && proxy.host().isBlank()) {
+            reader.problem("proxy.host is required when proxy.enabled=true");
+        }
+        reader.validate();
+
+        return new ConfigSnapshot(properties, browser, execution, timeouts, waits, environment, reporting,
+                testData, drivers, pool, http, reaper, admission, connectivity, proxy, webDriverManager, pages, reload);
+    }
+
+    /**
+     * Browser Configuration
+     */
+    public record Browser(String name, boolean headless, boolean maximize, boolean incognito, int windowWidth,
+                          int windowHeight, String pageLoadStrategy, boolean profileTemplateEnabled,
+                          String profileTemplateDirectory, boolean requestBlockingEnabled,
+                          List<String> blockedUrlPatterns, Set<String> blockedResourceTypes) {
+    }
+
+    /**
+     * Test Execution Configuration
+     */
+    public record Execution(int threadCount, int retryCount, String mode, int virtualMaxConcurrency) {
+    }
+
+    /**
+     * Timeout Configuration
+     */
+    public record Timeouts(int implicitSeconds, int explicitSeconds, int pageLoadSeconds, int presenceCheckMillis) {
+    }
+
+    /**
+     * Wait Configuration
+     */
+    public record Waits(boolean reactive, long pollInitialMillis, long pollMaxMillis, double pollBackoff,
+                        String statsFile, double slowFactor, int networkQuietMillis, int networkMaxInflight) {
+    }
+
+    /**
+     * Environment Configuration
+     */
+    public record Environment(String baseUrl, String name) {
+    }
+
+    /**
+     * Reporting Configuration
+     */
+    public record Reporting(boolean extentEnabled, boolean screenshotsEnabled, boolean screenshotOnFailure,
+                            boolean screenshotOnPass) {
+    }
+
+    /**
+     * Test Data Configuration
+     */
+    public record TestData(String path, String format) {
+    }
+
+    /**
+     * Driver Management Configuration
+     */
+    public record Drivers(boolean autoDownload, boolean offlineMode, String cachePath, String localPath,
+                          int downloadTimeoutSeconds) {
+    }
+
+    /**
+     * Driver Pool Configuration
+     */
+    public record Pool(boolean enabled, int maxIdle, int maxUses, String resetStrategy, boolean prefetchEnabled,
+                       int prefetchMaxInFlight, int prefetchDepth, boolean serviceShared) {
+    }
+
+    /**
+     * Driver HTTP Client Configuration
+     */
+    public record Http(int connectTimeoutSeconds, int readTimeoutSeconds, String version, int keepAliveSeconds,
+                       int poolSize, boolean metricsEnabled) {
+    }
+
+    /**
+     * Session Reaper Configuration
+     */
+    public record Reaper(boolean enabled, int intervalSeconds, int graceSeconds) {
+    }
+
+    /**
+     * Session Admission Configuration
+     */
+    public record Admission(boolean enabled, int maxSessions, int memoryReserveMb, Map<String, Integer> memoryCostMb,
+                            double maxLoadPerCpu, int timeoutSeconds) {
+
+        /**
+         * Memory one session of the browser is expected to use
+         */
+        public int memoryCostMb(String browser) {
+            return memoryCostMb.getOrDefault(browser, 500);
+        }
+    }
+
+    /**
+     * Connectivity Probe Configuration
+     */
+    public record Connectivity(String probeUrl, int probeTimeoutMillis, int probeTtlSeconds,
+                               int breakerFailureThreshold, int breakerCooldownSeconds) {
+    }
+
+    /**
+     * Proxy Configuration
+     */
+    public record Proxy(boolean enabled, String host, int port, String username, String password,
+                        String nonProxyHosts) {
+    }
+
+    /**
+     * WebDriverManager Configuration
+     */
+    public record Wdm(int timeoutSeconds, boolean cacheEnabled, boolean offlineEnabled, boolean forceCache) {
+    }
+
+    /**
+     * Page Object Configuration
+     */
+    public record Pages(boolean elementCacheEnabled) {
+    }
+
+    /**
+     * Configuration Reload
+     */
+    public record Reload(boolean enabled, int debounceMillis) {
+    }
+
+    /**
+     * Parses raw values, collecting every problem so they can be reported together
+     */
+    private static final class Reader {
+        private final Map<String, String> values;
+        private final List<String> problems = new ArrayList<>();
+
+        private Reader(Map<String, String> values) {
+            this.values = values;
+        }
+
+        private String text(String key, String defaultValue) {
+            String value = values.get(key);
+            return value != null ? value : defaultValue;
+        }
+
+        // Blank values of typed settings mean "use the default", as an empty line in the file suggests
+        private String typed(String key) {
+            String value = values.get(key);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+
+        private boolean flag(String key, boolean defaultValue) {
+            String value = typed(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+                return Boolean.parseBoolean(value);
+            }
+            problem(key + "=" + value + " is not true or false");
+            return defaultValue;
+        }
+
+        private int integer(String key, int defaultValue, int min) {
+            String value = typed(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                int parsed = Integer.parseInt(value);
+                if (parsed >= min) {
+                    return parsed;
+                }
+                problem(key + "=" + value + " must be at least " + min);
+            } catch (NumberFormatException e) {
+                problem(key + "=" + value + " is not a whole number");
+            }
+            return defaultValue;
+        }
+
+        private double decimal(String key, double defaultValue, double min) {
+            String value = typed(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                double parsed = Double.parseDouble(value);
+                if (parsed >= min) {
+                    return parsed;
+                }
+                problem(key + "=" + value + " must be at least " + min);
+            } catch (NumberFormatException e) {
+                problem(key + "=" + value + " is not a number");
+            }
+            return defaultValue;
+        }
+
+        private String oneOf(String key, String defaultValue, String... allowed) {
+            String value = typed(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            for (String candidate : allowed) {
+                if (candidate.equalsIgnoreCase(value)) {
+                    return candidate;
+                }
+            }
+            problem(key + "=" + value + " is not one of " + Arrays.toString(allowed));
+            return defaultValue;
+        }
+
+        private List<String> list(String key) {
+            return Arrays.stream(text(key, "").split(","))
+                    .map(String::trim)
+                    .filter(item -> !item.isEmpty())
+                    .collect(Collectors.toUnmodifiableList());
+        }
+
+        private void problem(String description) {
+            problems.add(description);
+        }
+
+        private void validate() {
+            if (!problems.isEmpty()) {
+                throw new IllegalArgumentException("Invalid configuration: " + String.join("; ", problems));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.automation.framework.context;
+
+import com.relevantcodes.extentreports.ExtentTest;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test state (driver, report node and framework attributes) held in one object instead of being
+ * spread over thread-keyed maps. The context is bound to whichever thread runs the test, platform or
+ * virtual, and is cleared when the test ends because worker threads are reused.
+ */
+public final class TestContext {
+    private static final ThreadLocal<TestContext> current = new ThreadLocal<>();
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private volatile WebDriver driver;
+    private volatile ExtentTest extentTest;
+
+    /**
+     * Context bound to the current thread, created on first use
+     */
+    public static TestContext current() {
+        TestContext context = current.get();
+        if (context == null) {
+            context = new TestContext();
+            current.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * Context bound to the current thread, or null if none was created
+     */
+    public static TestContext peek() {
+        return current.get();
+    }
+
+    /**
+     * Unbind the context from the current thread
+     */
+    public static void clear() {
+        current.remove();
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public void setDriver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public ExtentTest getExtentTest() {
+        return extentTest;
+    }
+
+    public void setExtentTest(ExtentTest extentTest) {
+        this.extentTest = extentTest;
+    }
+
+    /**
+     * Framework attribute stored for the lifetime of the test
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getAttribute(String name) {
+        return (T) attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T removeAttribute(String name) {
+        return (T) attributes.remove(name);
+    }
+}
@@ -0,0 +1,299 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigManager;
+import com.automation.framework.config.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resource aware admission control for concurrent browser sessions.
+ * A session is admitted only while the host has enough free memory (read from /proc/meminfo) for the
+ * browser's configured cost and the load average per CPU stays under the limit. Callers queue in FIFO
+ * order, and the time each caller spent queued is recorded.
+ */
+public class AdmissionController {
+    private static final Logger logger = LogManager.getLogger(AdmissionController.class);
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final Path LOADAVG = Paths.get("/proc/loadavg");
+    private static final long RECHECK_INTERVAL_MILLIS = 250;
+    // Memory of a freshly started browser is not visible in MemAvailable right away
+    private static final long STARTUP_SETTLE_MILLIS = 15_000;
+
+    private final ConfigManager config;
+    private volatile int maxSessions;
+    private volatile long reserveMemoryMb;
+    private volatile double maxLoadPerCpu;
+    private volatile long timeoutMillis;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition changed = lock.newCondition();
+    private final Deque<Object> queue = new ArrayDeque<>();
+    private final Deque<long[]> recentAdmissions = new ArrayDeque<>();
+    private int activeSessions;
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong totalQueueMillis = new AtomicLong();
+    private final AtomicLong maxQueueMillis = new AtomicLong();
+
+    public AdmissionController(ConfigManager config) {
+        this.config = config;
+        this.maxSessions = config.getAdmissionMaxSessions();
+        this.reserveMemoryMb = config.getAdmissionMemoryReserveMb();
+        this.maxLoadPerCpu = config.getAdmissionMaxLoadPerCpu();
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(config.getAdmissionTimeoutSeconds());
+    }
+
+    /**
+     * Wait in line until the host can afford another browser session
+     */
+    public Permit acquire(String browser) {
+        long costMb = config.getBrowserMemoryCostMb(browser);
+        long start = System.currentTimeMillis();
+        long timeoutMillis = this.timeoutMillis;
+        Object ticket = new Object();
+
+        lock.lock();
+        try {
+            queue.addLast(ticket);
+            boolean waited = false;
+            while (queue.peekFirst() != ticket || !canAdmit(costMb)) {
+                waited = true;
+                long remaining = start + timeoutMillis - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    queue.remove(ticket);
+                    changed.signalAll();
+                    throw new RuntimeException("Timed out after " + timeoutMillis + " ms waiting for " + browser
+                            + " session admission (active sessions: " + activeSessions + ")");
+                }
+                changed.await(Math.min(remaining, RECHECK_INTERVAL_MILLIS), TimeUnit.MILLISECONDS);
+            }
+
+            queue.removeFirst();
+            activeSessions++;
+            recentAdmissions.addLast(new long[]{System.currentTimeMillis(), costMb});
+            changed.signalAll();
+
+            long queueMillis = System.currentTimeMillis() - start;
+            recordAdmission(waited, queueMillis);
+            return new Permit(browser, queueMillis);
+        } catch (InterruptedException e) {
+            queue.remove(ticket);
+            changed.signalAll();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for session admission", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Apply new admission limits; sessions already admitted keep running, waiting ones are re-evaluated
+     */
+    public void updateLimits(ConfigSnapshot.Admission limits) {
+        lock.lock();
+        try {
+            maxSessions = limits.maxSessions();
+            reserveMemoryMb = limits.memoryReserveMb();
+            maxLoadPerCpu = limits.maxLoadPerCpu();
+            timeoutMillis = TimeUnit.SECONDS.toMillis(limits.timeoutSeconds());
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        logger.info("Admission limits updated: max sessions {}, memory reserve {} MB, max load per CPU {}",
+                limits.maxSessions(), limits.memoryReserveMb(), limits.maxLoadPerCpu());
+    }
+
+    /**
+     * Give the permit back once the session is no longer in use
+     */
+    public void release(Permit permit) {
+        if (permit == null || !permit.released.compareAndSet(false, true)) {
+            return;
+        }
+        lock.lock();
+        try {
+            activeSessions--;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats getStats() {
+        lock.lock();
+        try {
+            return new Stats(admitted.get(), queued.get(), totalQueueMillis.get(), maxQueueMillis.get(),
+                    activeSessions, queue.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean canAdmit(long costMb) {
+        if (maxSessions > 0 && activeSessions >= maxSessions) {
+            return false;
+        }
+        // Always let one session through so a small host still makes progress
+        if (activeSessions == 0) {
+            return true;
+        }
+
+        long availableMb = readAvailableMemoryMb();
+        if (availableMb >= 0 && availableMb - pendingStartupCostMb() - costMb < reserveMemoryMb) {
+            logger.debug("Admission deferred: {} MB available, {} MB reserve, {} MB cost", availableMb, reserveMemoryMb, costMb);
+            return false;
+        }
+
+        double loadPerCpu = readLoadPerCpu();
+        if (loadPerCpu >= 0 && loadPerCpu > maxLoadPerCpu) {
+            logger.debug("Admission deferred: load per CPU {} above {}", loadPerCpu, maxLoadPerCpu);
+            return false;
+        }
+        return true;
+    }
+
+    private long pendingStartupCostMb() {
+        long now = System.currentTimeMillis();
+        long pending = 0;
+        Iterator<long[]> iterator = recentAdmissions.iterator();
+        while (iterator.hasNext()) {
+            long[] admission = iterator.next();
+            if (now - admission[0] > STARTUP_SETTLE_MILLIS) {
+                iterator.remove();
+            } else {
+                pending += admission[1];
+            }
+        }
+        return pending;
+    }
+
+    private void recordAdmission(boolean waited, long queueMillis) {
+        admitted.incrementAndGet();
+        if (waited) {
+            queued.incrementAndGet();
+        }
+        totalQueueMillis.addAndGet(queueMillis);
+        maxQueueMillis.accumulateAndGet(queueMillis, Math::max);
+    }
+
+    /**
+     * MemAvailable in MB, or -1 when /proc is not available
+     */
+    private static long readAvailableMemoryMb() {
+        try {
+            List<String> lines = Files.readAllLines(MEMINFO);
+            for (String line : lines) {
+                if (line.startsWith("MemAvailable:")) {
+                    return Long.parseLong(line.replaceAll("\\D+", "")) / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.trace("Cannot read {}: {}", MEMINFO, e.getMessage());
+        }
+        return -1;
+    }
+
+    /**
+     * One minute load average divided by CPU count, or -1 when /proc is not available
+     */
+    private static double readLoadPerCpu() {
+        try {
+            String loadavg = Files.readString(LOADAVG).trim();
+            double load = Double.parseDouble(loadavg.split("\\s+")[0]);
+            return load / Runtime.getRuntime().availableProcessors();
+        } catch (IOException | RuntimeException e) {
+            logger.trace("Cannot read {}: {}", LOADAVG, e.getMessage());
+        }
+        return -1;
+    }
+
+    /**
+     * Admission granted to one session
+     */
+    public static final class Permit {
+        private final String browser;
+        private final long queueMillis;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String browser, long queueMillis) {
+            this.browser = browser;
+            this.queueMillis = queueMillis;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public long getQueueMillis() {
+            return queueMillis;
+        }
+    }
+
+    /**
+     * Immutable snapshot of admission metrics
+     */
+    public static final class Stats {
+        private final long admitted;
+        private final long queued;
+        private final long totalQueueMillis;
+        private final long maxQueueMillis;
+        private final int activeSessions;
+        private final int waiting;
+
+        private Stats(long admitted, long queued, long totalQueueMillis, long maxQueueMillis,
+                      int activeSessions, int waiting) {
+            this.admitted = admitted;
+            this.queued = queued;
+            this.totalQueueMillis = totalQueueMillis;
+            this.maxQueueMillis = maxQueueMillis;
+            this.activeSessions = activeSessions;
+            this.waiting = waiting;
+        }
+
+        public long getAdmitted() {
+            return admitted;
+        }
+
+        public long getQueued() {
+            return queued;
+        }
+
+        public double getAverageQueueMillis() {
+            return admitted == 0 ? 0.0 : (double) totalQueueMillis / admitted;
+        }
+
+        public long getMaxQueueMillis() {
+            return maxQueueMillis;
+        }
+
+        public int getActiveSessions() {
+            return activeSessions;
+        }
+
+        public int getWaiting() {
+            return waiting;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("admitted=%d, queued=%d, avgQueue=%.1fms, maxQueue=%dms, active=%d, waiting=%d",
+                    admitted, queued, getAverageQueueMillis(), maxQueueMillis, activeSessions, waiting);
+        }
+    }
+}
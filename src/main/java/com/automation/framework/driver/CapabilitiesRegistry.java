@@ -0,0 +1,253 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of precompiled browser options templates.
+ * One template is compiled per {@link Profile} and never handed out; callers receive cheap copies,
+ * so the argument lists, CI detection and config lookups run once per profile instead of once per driver.
+ */
+public final class CapabilitiesRegistry {
+    private static final Logger logger = LogManager.getLogger(CapabilitiesRegistry.class);
+    private static final ImmutableCapabilities NO_EXTRA_CAPABILITIES = new ImmutableCapabilities();
+    private static final boolean CI_ENVIRONMENT = detectCIEnvironment();
+    private static final Map<Profile, MutableCapabilities> templates = new ConcurrentHashMap<>();
+
+    private CapabilitiesRegistry() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Settings that make two sessions interchangeable
+     */
+    public record Profile(String browser, boolean headless, boolean incognito, boolean ci,
+                          boolean maximize, int width, int height, String pageLoadStrategy) {
+
+        /**
+         * Profile for the given browser using the current configuration
+         */
+        public static Profile fromConfig(String browser) {
+            ConfigManager config = ConfigManager.getInstance();
+            return new Profile(browser, config.isBrowserHeadless(), config.isBrowserIncognito(), CI_ENVIRONMENT,
+                    config.isBrowserMaximize(), config.getBrowserWindowWidth(), config.getBrowserWindowHeight(),
+                    config.getPageLoadStrategy().toLowerCase());
+        }
+
+        /**
+         * Stable key used to pool and prefetch sessions started from this profile
+         */
+        public String key() {
+            return String.join("|", browser, String.valueOf(headless), String.valueOf(incognito),
+                    String.valueOf(ci), String.valueOf(maximize), width + "x" + height, pageLoadStrategy);
+        }
+    }
+
+    /**
+     * Compile the template for the browser's current profile ahead of the first session
+     */
+    public static void precompile(String browser) {
+        getOrCompile(Profile.fromConfig(browser));
+    }
+
+    /**
+     * Fresh copy of the Chrome template for the profile
+     */
+    public static ChromeOptions chromeOptions(Profile profile) {
+        return ((ChromeOptions) getOrCompile(profile)).merge(NO_EXTRA_CAPABILITIES);
+    }
+
+    /**
+     * Fresh copy of the Firefox template for the profile
+     */
+    public static FirefoxOptions firefoxOptions(Profile profile) {
+        return ((FirefoxOptions) getOrCompile(profile)).merge(NO_EXTRA_CAPABILITIES);
+    }
+
+    /**
+     * Fresh copy of the Edge template for the profile
+     */
+    public static EdgeOptions edgeOptions(Profile profile) {
+        return ((EdgeOptions) getOrCompile(profile)).merge(NO_EXTRA_CAPABILITIES);
+    }
+
+    /**
+     * Resolved template for diagnostics
+     */
+    public static Capabilities getTemplate(Profile profile) {
+        return new ImmutableCapabilities(getOrCompile(profile));
+    }
+
+    /**
+     * Check if running in CI environment (evaluated once per JVM)
+     */
+    public static boolean isCIEnvironment() {
+        return CI_ENVIRONMENT;
+    }
+
+    private static MutableCapabilities getOrCompile(Profile profile) {
+        return templates.computeIfAbsent(profile, CapabilitiesRegistry::compile);
+    }
+
+    private static MutableCapabilities compile(Profile profile) {
+        MutableCapabilities template = switch (profile.browser()) {
+            case "firefox" -> compileFirefox(profile);
+            case "edge" -> compileEdge(profile);
+            default -> compileChrome(profile);
+        };
+        logger.info("Compiled capabilities template for profile {}: {}", profile.key(), template);
+        return template;
+    }
+
+    private static ChromeOptions compileChrome(Profile profile) {
+        Set<String> arguments = new LinkedHashSet<>();
+
+        if (profile.headless()) {
+            arguments.add("--headless=new");
+        }
+        if (profile.incognito()) {
+            arguments.add("--incognito");
+        }
+
+        // Essential Chrome options for automation
+        arguments.addAll(List.of(
+                "--no-sandbox",
+                "--disable-dev-shm-usage",
+                "--disable-gpu",
+                "--disable-extensions",
+                "--no-first-run",
+                "--disable-default-apps",
+                "--disable-popup-blocking",
+                "--disable-translate",
+                "--disable-background-timer-throttling",
+                "--disable-renderer-backgrounding",
+                "--disable-backgrounding-occluded-windows",
+                "--remote-allow-origins=*",
+                "--disable-blink-features=AutomationControlled",
+                "--disable-ipc-flooding-protection"));
+
+        // Additional options for CI environments
+        if (profile.ci()) {
+            arguments.addAll(List.of(
+                    "--disable-web-security",
+                    "--disable-features=VizDisplayCompositor",
+                    "--disable-software-rasterizer",
+                    "--disable-background-networking",
+                    "--disable-sync",
+                    "--metrics-recording-only",
+                    "--mute-audio",
+                    "--safebrowsing-disable-auto-update",
+                    "--ignore-ssl-errors=yes",
+                    "--ignore-certificate-errors",
+                    "--allow-running-insecure-content"));
+        }
+
+        arguments.add("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/131.0.0.0 Safari/537.36");
+
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments(new ArrayList<>(arguments));
+        options.setPageLoadStrategy(pageLoadStrategy(profile));
+
+        // Remove automation indicators
+        options.setExperimentalOption("useAutomationExtension", false);
+        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
+        return options;
+    }
+
+    private static FirefoxOptions compileFirefox(Profile profile) {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy(profile));
+
+        if (profile.headless()) {
+            options.addArguments("--headless");
+        }
+
+        // Common Firefox options
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--width=" + profile.width());
+        options.addArguments("--height=" + profile.height());
+
+        // Firefox has no URL block list without BiDi interception; block what prefs can
+        ConfigManager config = ConfigManager.getInstance();
+        if (config.isRequestBlockingEnabled()) {
+            Set<String> blockedTypes = config.getBlockedResourceTypes();
+            if (blockedTypes.contains("image")) {
+                options.addPreference("permissions.default.image", 2);
+            }
+            if (blockedTypes.contains("font")) {
+                options.addPreference("gfx.downloadable_fonts.enabled", false);
+            }
+        }
+        return options;
+    }
+
+    private static EdgeOptions compileEdge(Profile profile) {
+        Set<String> arguments = new LinkedHashSet<>();
+
+        if (profile.headless()) {
+            arguments.add("--headless=new");
+        }
+        if (profile.incognito()) {
+            arguments.add("--inprivate");
+        }
+
+        // Essential Edge options for automation
+        arguments.addAll(List.of(
+                "--no-sandbox",
+                "--disable-dev-shm-usage",
+                "--disable-gpu",
+                "--disable-extensions",
+                "--no-first-run",
+                "--disable-default-apps",
+                "--disable-popup-blocking",
+                "--disable-translate",
+                "--remote-allow-origins=*",
+                "--disable-blink-features=AutomationControlled"));
+
+        EdgeOptions options = new EdgeOptions();
+        options.addArguments(new ArrayList<>(arguments));
+        options.setPageLoadStrategy(pageLoadStrategy(profile));
+
+        // Remove automation indicators
+        options.setExperimentalOption("useAutomationExtension", false);
+        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
+        return options;
+    }
+
+    /**
+     * normal waits for the load event, eager for DOMContentLoaded, none returns right after navigation starts
+     */
+    private static PageLoadStrategy pageLoadStrategy(Profile profile) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(profile.pageLoadStrategy());
+        if (strategy == null) {
+            logger.warn("Unknown page load strategy '{}', using normal", profile.pageLoadStrategy());
+            return PageLoadStrategy.NORMAL;
+        }
+        return strategy;
+    }
+
+    private static boolean detectCIEnvironment() {
+        return System.getenv("CI") != null ||
+               System.getenv("GITHUB_ACTIONS") != null ||
+               System.getenv("JENKINS_URL") != null ||
+               System.getenv("TRAVIS") != null ||
+               System.getenv("CIRCLECI") != null ||
+               System.getenv("GITLAB_CI") != null;
+    }
+}
@@ -0,0 +1,273 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.driver.CapabilitiesRegistry.Profile;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Pre-initialized user data directories for Chromium browsers.
+ * The first session of a run for a capabilities profile is preceded by one extra launch against an empty
+ * directory, which pays Chrome's first-run work (profile creation, component initialization, cache setup)
+ * and is quit again; that directory becomes the template and every session of the profile, the first one
+ * included, starts from a private copy of it. Templates are kept per profile because headless, incognito
+ * and the other profile settings change what Chrome writes to the directory. On Linux the copy is made with cp --reflink=auto,
+ * which is copy-on-write where the file system supports it. Hard links are not used because Chrome
+ * rewrites profile files in place and would corrupt the template.
+ */
+public class ChromiumProfileTemplates {
+    private static final Logger logger = LogManager.getLogger(ChromiumProfileTemplates.class);
+    private static final List<String> LOCK_FILES = List.of("SingletonLock", "SingletonSocket", "SingletonCookie");
+
+    private final Path baseDirectory;
+    private final Consumer<WebDriver> disposer;
+    private final Map<Profile, Path> templates = new ConcurrentHashMap<>();
+    private final Map<WebDriver, Path> sessionProfiles = new ConcurrentHashMap<>();
+    private final Map<String, StartupTimes> startupTimes = new ConcurrentHashMap<>();
+
+    /**
+     * @param baseDirectory directory for the template and session copies; empty selects /dev/shm when
+     *                      available, otherwise the system temp directory
+     * @param disposer      callback used to quit the session that builds a template
+     */
+    public ChromiumProfileTemplates(String baseDirectory, Consumer<WebDriver> disposer) {
+        this.baseDirectory = resolveBaseDirectory(baseDirectory);
+        this.disposer = disposer;
+    }
+
+    /**
+     * Start a session on a private copy of the profile's template, building the template first
+     * when this is the first session of the run for the profile
+     *
+     * @param launcher starts a session with the given user data directory
+     */
+    public WebDriver startSession(Profile profile, Function<Path, WebDriver> launcher) {
+        String browser = profile.browser();
+        Path template = getOrBuildTemplate(profile, launcher);
+        Path copy = copyTemplate(browser, template);
+        try {
+            long start = System.nanoTime();
+            WebDriver driver = launcher.apply(copy);
+            recordStartup(browser, true, System.nanoTime() - start);
+            sessionProfiles.put(driver, copy);
+            return driver;
+        } catch (RuntimeException e) {
+            delete(copy);
+            throw e;
+        }
+    }
+
+    /**
+     * Record how long a session took to start, with or without a profile template
+     */
+    public void recordStartup(String browser, boolean templated, long nanos) {
+        startupTimes.computeIfAbsent(browser, k -> new StartupTimes()).record(templated, nanos);
+    }
+
+    /**
+     * Delete the profile copy of a session after it has been quit
+     */
+    public void release(WebDriver driver) {
+        Path profile = sessionProfiles.remove(driver);
+        if (profile != null) {
+            delete(profile);
+        }
+    }
+
+    /**
+     * Delete the templates and any profile copies that are still around
+     */
+    public void shutdown() {
+        sessionProfiles.values().forEach(ChromiumProfileTemplates::delete);
+        sessionProfiles.clear();
+        templates.values().forEach(ChromiumProfileTemplates::delete);
+        templates.clear();
+        startupTimes.forEach((browser, times) -> logger.info("{} startup times: {}", browser, times));
+    }
+
+    /**
+     * Startup times with and without a profile template, per browser
+     */
+    public Map<String, String> getStartupSummary() {
+        Map<String, String> summary = new ConcurrentHashMap<>();
+        startupTimes.forEach((browser, times) -> summary.put(browser, times.toString()));
+        return summary;
+    }
+
+    private Path getOrBuildTemplate(Profile profile, Function<Path, WebDriver> launcher) {
+        Path template = templates.get(profile);
+        if (template != null) {
+            return template;
+        }
+        synchronized (templates) {
+            template = templates.get(profile);
+            if (template != null) {
+                return template;
+            }
+
+            String browser = profile.browser();
+            template = createDirectory(browser + "-template-");
+            long start = System.nanoTime();
+            WebDriver driver;
+            try {
+                driver = launcher.apply(template);
+            } catch (RuntimeException e) {
+                delete(template);
+                throw e;
+            }
+            recordStartup(browser, false, System.nanoTime() - start);
+            disposer.accept(driver);
+
+            // A copied lock would make Chrome believe the profile is in use by another process
+            for (String lock : LOCK_FILES) {
+                try {
+                    Files.deleteIfExists(template.resolve(lock));
+                } catch (IOException e) {
+                    logger.debug("Could not remove {} from profile template: {}", lock, e.getMessage());
+                }
+            }
+            logger.info("Built profile template for {} in {} ms at {}", profile.key(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), template);
+            templates.put(profile, template);
+            return template;
+        }
+    }
+
+    private Path copyTemplate(String browser, Path template) {
+        Path profile = createDirectory(browser + "-session-");
+        try {
+            if (!copyWithCp(template, profile)) {
+                copyTree(template, profile);
+            }
+            return profile;
+        } catch (IOException e) {
+            delete(profile);
+            throw new RuntimeException("Failed to copy " + browser + " profile template: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copy with cp --reflink=auto on Linux, returning false when cp is not usable
+     */
+    private static boolean copyWithCp(Path source, Path target) {
+        if (!System.getProperty("os.name").toLowerCase().contains("linux")) {
+            return false;
+        }
+        try {
+            Process process = new ProcessBuilder("cp", "-a", "--reflink=auto", source + "/.", target.toString())
+                    .redirectErrorStream(true)
+                    .start();
+            if (process.waitFor(30, TimeUnit.SECONDS) && process.exitValue() == 0) {
+                return true;
+            }
+            process.destroyForcibly();
+            logger.debug("cp failed, copying profile template in process: {}",
+                    new String(process.getInputStream().readAllBytes()).trim());
+        } catch (IOException e) {
+            logger.debug("cp not available: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.copy(file, target.resolve(source.relativize(file)),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES,
+                        LinkOption.NOFOLLOW_LINKS);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private Path createDirectory(String prefix) {
+        try {
+            Files.createDirectories(baseDirectory);
+            return Files.createTempDirectory(baseDirectory, prefix);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create profile directory in " + baseDirectory, e);
+        }
+    }
+
+    private static void delete(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    logger.trace("Could not delete {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Could not delete profile directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private static Path resolveBaseDirectory(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        // tmpfs keeps profile I/O off the disk
+        Path shm = Paths.get("/dev/shm");
+        if (Files.isDirectory(shm) && Files.isWritable(shm)) {
+            return shm.resolve("selenium-profiles");
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "selenium-profiles");
+    }
+
+    private static final class StartupTimes {
+        private final AtomicLong coldStarts = new AtomicLong();
+        private final AtomicLong coldNanos = new AtomicLong();
+        private final AtomicLong templatedStarts = new AtomicLong();
+        private final AtomicLong templatedNanos = new AtomicLong();
+
+        private void record(boolean templated, long nanos) {
+            if (templated) {
+                templatedStarts.incrementAndGet();
+                templatedNanos.addAndGet(nanos);
+            } else {
+                coldStarts.incrementAndGet();
+                coldNanos.addAndGet(nanos);
+            }
+        }
+
+        private static double averageMillis(long nanos, long count) {
+            return count == 0 ? 0.0 : nanos / 1_000_000.0 / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("without template avg=%.1fms (n=%d), with template avg=%.1fms (n=%d)",
+                    averageMillis(coldNanos.get(), coldStarts.get()), coldStarts.get(),
+                    averageMillis(templatedNanos.get(), templatedStarts.get()), templatedStarts.get());
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpMethod;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP client configuration for the WebDriver commands sent from the JVM to the driver servers.
+ * Sessions are started with a ClientConfig carrying the configured timeouts and HTTP version, and the
+ * JDK client's connection pool (keep-alive, pool size per client) is tuned through its system properties.
+ * With metrics enabled, a filter records requests per second and latency per browser; on Linux, connections
+ * opened to the driver servers are sampled from /proc/net/tcp, so connection churn shows up as requests per
+ * connection.
+ */
+public class CommandTransport {
+    private static final Logger logger = LogManager.getLogger(CommandTransport.class);
+    private static final int MAX_SAMPLES = 10_000;
+    private static final long SAMPLE_INTERVAL_MILLIS = 500;
+    private static final Pattern DELETE_SESSION = Pattern.compile("/session/[^/]+/?");
+    private static final List<Path> TCP_TABLES = List.of(Paths.get("/proc/net/tcp"), Paths.get("/proc/net/tcp6"));
+
+    private final ClientConfig baseConfig;
+    private final boolean metricsEnabled;
+    private final Map<String, BrowserMetrics> metrics = new ConcurrentHashMap<>();
+    private final Map<Integer, PortConnections> ports = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sampler;
+
+    public CommandTransport(ConfigManager config) {
+        // Read once by the JDK client when its first connection pool is created; explicit -D flags win
+        setIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(config.getDriverHttpKeepAliveSeconds()));
+        setIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(config.getDriverHttpPoolSize()));
+
+        this.baseConfig = ClientConfig.defaultConfig()
+                .connectionTimeout(Duration.ofSeconds(config.getDriverHttpConnectTimeoutSeconds()))
+                .readTimeout(Duration.ofSeconds(config.getDriverHttpReadTimeoutSeconds()))
+                .version(config.getDriverHttpVersion());
+        this.metricsEnabled = config.isDriverHttpMetricsEnabled();
+        this.sampler = metricsEnabled && Files.isReadable(TCP_TABLES.get(0)) ? startSampler() : null;
+    }
+
+    /**
+     * Client configuration for the sessions of a browser on the driver server at the given address
+     */
+    public ClientConfig clientConfig(String browser, URL serviceUrl) {
+        ClientConfig clientConfig = baseConfig.baseUrl(serviceUrl);
+        if (!metricsEnabled) {
+            return clientConfig;
+        }
+        BrowserMetrics browserMetrics = metrics.computeIfAbsent(browser, k -> new BrowserMetrics());
+        PortConnections connections = ports.computeIfAbsent(serviceUrl.getPort(), k -> new PortConnections());
+        connections.sessions.incrementAndGet();
+        browserMetrics.ports.add(serviceUrl.getPort());
+        return clientConfig.withFilter(metricsFilter(browserMetrics, serviceUrl.getPort()));
+    }
+
+    /**
+     * Forget a session whose handshake failed, so it is not counted as open on its driver server
+     */
+    public void sessionFailed(URL serviceUrl) {
+        if (metricsEnabled) {
+            sessionClosed(serviceUrl.getPort());
+        }
+    }
+
+    /**
+     * Transport metrics per browser
+     */
+    public Map<String, Stats> getStats() {
+        if (sampler != null) {
+            sample();
+        }
+        Map<String, Stats> stats = new TreeMap<>();
+        metrics.forEach((browser, browserMetrics) -> stats.put(browser, browserMetrics.snapshot(ports, sampler != null)));
+        return stats;
+    }
+
+    /**
+     * One line per browser
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        getStats().forEach((browser, stats) -> report.append(System.lineSeparator())
+                .append(String.format("  %-8s %s", browser, stats)));
+        return report.toString();
+    }
+
+    public void shutdown() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+    }
+
+    private Filter metricsFilter(BrowserMetrics browserMetrics, int port) {
+        return next -> request -> {
+            long start = System.nanoTime();
+            try {
+                return next.execute(request);
+            } finally {
+                browserMetrics.record(System.nanoTime() - start);
+                if (request.getMethod() == HttpMethod.DELETE && DELETE_SESSION.matcher(request.getUri()).matches()) {
+                    sessionClosed(port);
+                }
+            }
+        };
+    }
+
+    private void sessionClosed(int port) {
+        PortConnections connections = ports.get(port);
+        if (connections != null && connections.sessions.decrementAndGet() <= 0) {
+            if (sampler != null) {
+                sample();
+            }
+            connections.active = Set.of();
+        }
+    }
+
+    private ScheduledExecutorService startSampler() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-connection-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::sample, SAMPLE_INTERVAL_MILLIS, SAMPLE_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    /**
+     * Count client sockets to the driver servers that were not there in the previous sample.
+     * Closed sockets linger in TIME_WAIT for about a minute, so short-lived connections are still seen.
+     */
+    private synchronized void sample() {
+        Map<Integer, Set<Integer>> clientPorts = new HashMap<>();
+        ports.forEach((port, connections) -> {
+            if (connections.sessions.get() > 0) {
+                clientPorts.put(port, new HashSet<>());
+            }
+        });
+        if (clientPorts.isEmpty()) {
+            return;
+        }
+        for (Path table : TCP_TABLES) {
+            try {
+                for (String line : Files.readAllLines(table)) {
+                    String[] fields = line.trim().split("\\s+");
+                    if (fields.length < 4 || !fields[1].contains(":")) {
+                        continue;
+                    }
+                    int localPort = port(fields[1]);
+                    int remotePort = port(fields[2]);
+                    // Either side of a loopback connection may be listed; key it by the client's port
+                    Set<Integer> server = clientPorts.get(remotePort);
+                    if (server != null) {
+                        server.add(localPort);
+                    } else if ((server = clientPorts.get(localPort)) != null && !"0A".equals(fields[3])) {
+                        server.add(remotePort);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.trace("Could not read {}: {}", table, e.getMessage());
+            }
+        }
+        clientPorts.forEach((port, seen) -> {
+            PortConnections connections = ports.get(port);
+            for (Integer clientPort : seen) {
+                if (!connections.active.contains(clientPort)) {
+                    connections.opened.incrementAndGet();
+                }
+            }
+            connections.active = seen;
+        });
+    }
+
+    private static int port(String address) {
+        return Integer.parseInt(address.substring(address.lastIndexOf(':') + 1), 16);
+    }
+
+    private static void setIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private static final class PortConnections {
+        private final AtomicInteger sessions = new AtomicInteger();
+        private final AtomicLong opened = new AtomicLong();
+        private volatile Set<Integer> active = Set.of();
+    }
+
+    private static final class BrowserMetrics {
+        private final Set<Integer> ports = ConcurrentHashMap.newKeySet();
+        private final Deque<Long> samples = new ArrayDeque<>();
+        private long requests;
+        private long firstNanos;
+        private long lastNanos;
+
+        private synchronized void record(long nanos) {
+            long now = System.nanoTime();
+            if (requests++ == 0) {
+                firstNanos = now - nanos;
+            }
+            lastNanos = now;
+            if (samples.size() >= MAX_SAMPLES) {
+                samples.pollFirst();
+            }
+            samples.addLast(nanos);
+        }
+
+        private synchronized Stats snapshot(Map<Integer, PortConnections> portConnections, boolean sampled) {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            long connections = -1;
+            if (sampled) {
+                connections = 0;
+                for (Integer port : ports) {
+                    connections += portConnections.get(port).opened.get();
+                }
+            }
+            double seconds = (lastNanos - firstNanos) / 1_000_000_000.0;
+            return new Stats(requests, seconds > 0 ? requests / seconds : 0.0, percentile(sorted, 50),
+                    percentile(sorted, 95), percentile(sorted, 99), connections);
+        }
+
+        private static long percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+
+    /**
+     * Immutable snapshot of the command transport metrics of one browser
+     */
+    public static final class Stats {
+        private final long requests;
+        private final double requestsPerSecond;
+        private final long p50Nanos;
+        private final long p95Nanos;
+        private final long p99Nanos;
+        private final long connectionsOpened;
+
+        private Stats(long requests, double requestsPerSecond, long p50Nanos, long p95Nanos, long p99Nanos,
+                      long connectionsOpened) {
+            this.requests = requests;
+            this.requestsPerSecond = requestsPerSecond;
+            this.p50Nanos = p50Nanos;
+            this.p95Nanos = p95Nanos;
+            this.p99Nanos = p99Nanos;
+            this.connectionsOpened = connectionsOpened;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public double getP50Millis() {
+            return p50Nanos / 1_000_000.0;
+        }
+
+        public double getP95Millis() {
+            return p95Nanos / 1_000_000.0;
+        }
+
+        public double getP99Millis() {
+            return p99Nanos / 1_000_000.0;
+        }
+
+        /**
+         * Connections opened to the driver servers, or -1 when connections cannot be observed on this platform
+         */
+        public long getConnectionsOpened() {
+            return connectionsOpened;
+        }
+
+        public double getRequestsPerConnection() {
+            return connectionsOpened > 0 ? (double) requests / connectionsOpened : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            String churn = connectionsOpened < 0 ? "connections=n/a"
+                    : String.format("connections=%d (%.1f requests/connection)", connectionsOpened,
+                    getRequestsPerConnection());
+            return String.format("requests=%d, rps=%.1f, p50=%.2fms, p95=%.2fms, p99=%.2fms, %s",
+                    requests, requestsPerSecond, getP50Millis(), getP95Millis(), getP99Millis(), churn);
+        }
+    }
+}
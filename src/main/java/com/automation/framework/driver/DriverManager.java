@@ -1,27 +1,96 @@
 package com.automation.framework.driver;
 
 import com.automation.framework.config.ConfigManager;
+import com.automation.framework.config.ConfigSnapshot;
+import com.automation.framework.context.TestContext;
+import com.automation.framework.driver.CapabilitiesRegistry.Profile;
+import com.automation.framework.driver.StartupTimings.Phase;
 import com.automation.framework.utils.DriverSetupUtils;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.service.DriverService;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * WebDriver Manager for handling browser initialization and cleanup
  */
 public class DriverManager {
     private static final Logger logger = LogManager.getLogger(DriverManager.class);
-    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
     private static final ConfigManager config = ConfigManager.getInstance();
+    private static final SessionResetStrategy resetStrategy =
+            SessionResetStrategies.parse(config.getSessionResetStrategy());
+    private static final DriverPool driverPool = new DriverPool(config.getDriverPoolMaxIdle(),
+            config.getDriverPoolMaxUses(), resetStrategy, DriverManager::disposeDriver);
+    private static final DriverProvisioner provisioner = new DriverProvisioner(
+            config.getDriverPrefetchMaxInFlight(), config.getDriverPrefetchDepth(), DriverManager::disposeDriver);
+    private static final DriverResolutionCache resolutionCache = new DriverResolutionCache(config.getDriverCachePath());
+    private static final StartupTimings startupTimings = new StartupTimings();
+    private static final SessionProcessRegistry processRegistry = config.isReaperEnabled()
+            ? new SessionProcessRegistry(config.getDriverCachePath() + "/sessions",
+                    TimeUnit.SECONDS.toMillis(config.getReaperGraceSeconds()),
+                    TimeUnit.SECONDS.toMillis(config.getReaperIntervalSeconds()), DriverManager::disposeOrphan)
+            : SessionProcessRegistry.disabled();
+    private static final CommandTransport commandTransport = new CommandTransport(config);
+    private static final DriverServiceRegistry serviceRegistry =
+            new DriverServiceRegistry(processRegistry, startupTimings, commandTransport);
+    private static final AdmissionController admissionController = new AdmissionController(config);
+    private static final ChromiumProfileTemplates profileTemplates = new ChromiumProfileTemplates(
+            config.getProfileTemplateDirectory(), DriverManager::disposeDriver);
+    private static final RequestFilter requestFilter = new RequestFilter(
+            config.getBlockedUrlPatterns(), config.getBlockedResourceTypes());
+    private static final String ADMISSION_PERMIT = "driver.admission.permit";
+    private static final Map<WebDriver, AdmissionController.Permit> spawnPermits = new ConcurrentHashMap<>();
+    private static final String BLOCKED_REQUESTS = "driver.blocked.requests";
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            provisioner.shutdown();
+            driverPool.shutdown();
+            serviceRegistry.shutdown();
+            profileTemplates.shutdown();
+            processRegistry.reapAll();
+            commandTransport.shutdown();
+        }, "driver-pool-shutdown"));
+        config.addListener(DriverManager::onConfigChange);
+    }
+
+    /**
+     * Apply pool and admission limits changed in a reloaded configuration, keeping warm sessions
+     */
+    private static void onConfigChange(ConfigSnapshot previous, ConfigSnapshot current) {
+        ConfigSnapshot.Pool pool = current.pool();
+        if (previous.pool().enabled() && !pool.enabled()) {
+            // Sessions leased now are quit on release; idle ones would never be leased again
+            driverPool.shutdown();
+        } else if (previous.pool().maxIdle() != pool.maxIdle() || previous.pool().maxUses() != pool.maxUses()) {
+            driverPool.resize(pool.maxIdle(), pool.maxUses());
+        }
+        if (!previous.admission().equals(current.admission())) {
+            admissionController.updateLimits(current.admission());
+        }
+    }
 
     private DriverManager() {
         // Private constructor to prevent instantiation
@@ -34,25 +103,155 @@ public class DriverManager {
         String browserName = config.getBrowser().toLowerCase();
         logger.info("Initializing {} driver", browserName);
 
+        if (isDriverInitialized()) {
+            // The previous test never quit its session; do not lose track of it
+            logger.warn("Current test already holds a driver, quitting it before initializing a new one");
+            quitDriver();
+        }
+
+        AdmissionController.Permit permit = null;
+        boolean prefetch = config.isDriverPrefetchEnabled();
         try {
-            // Configure WebDriverManager globally before creating driver
-            DriverSetupUtils.configureWebDriverManagerGlobally();
-            
-            // Enable offline mode if configured
-            if (config.isDriverOfflineMode()) {
-                DriverSetupUtils.enableOfflineMode();
+            // Prefetched sessions are admitted on the provisioner thread, before they start
+            if (config.isAdmissionControlEnabled() && !prefetch) {
+                permit = admit(browserName, admissionController.acquire(browserName));
             }
 
-            WebDriver driver = createDriver(browserName);
-            driverThreadLocal.set(driver);
-            configureDriver(driver);
+            String sessionKey = getSessionKey(browserName);
+            Supplier<WebDriver> factory = prefetch
+                    ? () -> provisioner.acquire(sessionKey, () -> newAdmittedSession(browserName))
+                    : () -> newSession(browserName);
+
+            WebDriver driver;
+            if (config.isDriverPoolEnabled()) {
+                driver = driverPool.lease(sessionKey, factory);
+            } else {
+                driver = factory.get();
+            }
+            if (config.isAdmissionControlEnabled() && prefetch) {
+                AdmissionController.Permit spawned = spawnPermits.remove(driver);
+                // A session reused from the pool was not admitted by a spawn
+                permit = admit(browserName, spawned != null ? spawned : admissionController.acquire(browserName));
+            }
+            TestContext.current().setDriver(driver);
+            requestFilter.resetCounts(driver);
+            AdmissionController.Permit leasedPermit = permit;
+            processRegistry.bind(driver, () -> admissionController.release(leasedPermit));
             logger.info("Driver initialized successfully: {}", browserName);
         } catch (Exception e) {
+            admissionController.release(permit);
+            TestContext.current().removeAttribute(ADMISSION_PERMIT);
             logger.error("Failed to initialize {} driver: {}", browserName, e.getMessage());
             throw new RuntimeException("Driver initialization failed: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Start provisioning a session for the configured browser in the background,
+     * so the first test does not pay the full browser startup
+     */
+    public static void prefetchDriver() {
+        if (!config.isDriverPrefetchEnabled()) {
+            return;
+        }
+        String browserName = config.getBrowser().toLowerCase();
+        provisioner.prefetch(getSessionKey(browserName), () -> newAdmittedSession(browserName));
+    }
+
+    /**
+     * Record the permit of the current test's session
+     */
+    private static AdmissionController.Permit admit(String browserName, AdmissionController.Permit permit) {
+        TestContext.current().setAttribute(ADMISSION_PERMIT, permit);
+        if (permit.getQueueMillis() > 0) {
+            logger.info("Waited {} ms for {} session admission", permit.getQueueMillis(), browserName);
+        }
+        return permit;
+    }
+
+    /**
+     * Start a new session for the provisioner, holding an admission permit for it when admission control
+     * is enabled. The permit passes to the test that takes the session, or is released when it is disposed.
+     */
+    private static WebDriver newAdmittedSession(String browserName) {
+        if (!config.isAdmissionControlEnabled()) {
+            return newSession(browserName);
+        }
+        AdmissionController.Permit permit = admissionController.acquire(browserName);
+        try {
+            WebDriver driver = newSession(browserName);
+            spawnPermits.put(driver, permit);
+            return driver;
+        } catch (RuntimeException e) {
+            admissionController.release(permit);
+            throw e;
+        }
+    }
+
+    /**
+     * Start and configure a brand new browser session
+     */
+    static WebDriver newSession(String browserName) {
+        return startupTimings.time(browserName, Phase.TOTAL, () -> {
+            // Configure WebDriverManager globally before creating driver
+            startupTimings.time(browserName, Phase.CONFIGURE_WDM, DriverSetupUtils::configureWebDriverManagerGlobally);
+
+            // Enable offline mode if configured
+            if (config.isDriverOfflineMode()) {
+                startupTimings.time(browserName, Phase.OFFLINE_MODE, DriverSetupUtils::enableOfflineMode);
+            }
+
+            WebDriver driver;
+            try {
+                driver = createDriver(browserName);
+            } catch (SessionNotCreatedException e) {
+                // Most often a driver/browser mismatch, resolve the binary again next time
+                resolutionCache.invalidate(browserName);
+                throw e;
+            }
+            processRegistry.registerSession(driver);
+            if (config.isRequestBlockingEnabled()) {
+                requestFilter.attach(driver);
+            }
+            startupTimings.time(browserName, Phase.CONFIGURE_DRIVER, () -> configureDriver(driver));
+            return driver;
+        });
+    }
+
+    /**
+     * Pool key identifying sessions that were started from the same capabilities profile
+     */
+    private static String getSessionKey(String browserName) {
+        return Profile.fromConfig(browserName).key();
+    }
+
+    /**
+     * Quit a session that is no longer needed by the pool or the current test
+     */
+    static void disposeDriver(WebDriver driver) {
+        try {
+            if (!serviceRegistry.quitSession(driver)) {
+                driver.quit();
+            }
+        } finally {
+            admissionController.release(spawnPermits.remove(driver));
+            profileTemplates.release(driver);
+            processRegistry.sessionClosed(driver);
+            requestFilter.detach(driver);
+        }
+    }
+
+    /**
+     * Dispose a session whose test thread died while holding it
+     */
+    private static void disposeOrphan(WebDriver driver) {
+        if (config.isDriverPoolEnabled()) {
+            driverPool.invalidate(driver);
+        } else {
+            disposeDriver(driver);
+        }
+    }
+
     /**
      * Create WebDriver instance based on browser type
      */
@@ -72,33 +271,90 @@ public class DriverManager {
      * Create Chrome WebDriver with offline fallback support
      */
     private static WebDriver createChromeDriver() {
-        setupChromeDriver();
-        ChromeOptions options = createChromeOptions();
-        return new ChromeDriver(options);
+        Path driverPath = setupChromeDriver();
+        Profile profile = Profile.fromConfig("chrome");
+        return startChromium(profile, userDataDir -> {
+            ChromeOptions options = CapabilitiesRegistry.chromeOptions(profile);
+            if (userDataDir != null) {
+                options.addArguments("--user-data-dir=" + userDataDir);
+            }
+            if (config.isDriverServiceShared()) {
+                return serviceRegistry.startSession("chrome", driverPath, options);
+            }
+            return startLocalSession("chrome", driverPath,
+                    (service, clientConfig) -> new ChromeDriver((ChromeDriverService) service, options, clientConfig));
+        });
     }
 
     /**
-     * Setup ChromeDriver with offline fallback
+     * Spawn a dedicated driver service and open a session on it, timing the two phases separately.
+     * The session owns the service and stops it on quit.
      */
-    private static void setupChromeDriver() {
+    private static WebDriver startLocalSession(String browserName, Path driverPath,
+                                               BiFunction<DriverService, ClientConfig, WebDriver> handshake) {
+        DriverService service = startupTimings.time(browserName, Phase.SPAWN,
+                () -> DriverServiceRegistry.startService(browserName, driverPath));
+        try {
+            ClientConfig clientConfig = commandTransport.clientConfig(browserName, service.getUrl());
+            try {
+                return startupTimings.time(browserName, Phase.HANDSHAKE, () -> handshake.apply(service, clientConfig));
+            } catch (RuntimeException e) {
+                commandTransport.sessionFailed(service.getUrl());
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            service.stop();
+            throw e;
+        }
+    }
+
+    /**
+     * Start a Chromium session, on a copy of the profile template when templating is enabled
+     *
+     * @param launcher starts a session with the given user data directory, or Chrome's default when null
+     */
+    private static WebDriver startChromium(Profile profile, Function<Path, WebDriver> launcher) {
+        if (config.isProfileTemplateEnabled()) {
+            return profileTemplates.startSession(profile, launcher);
+        }
+        long start = System.nanoTime();
+        WebDriver driver = launcher.apply(null);
+        profileTemplates.recordStartup(profile.browser(), false, System.nanoTime() - start);
+        return driver;
+    }
+
+    /**
+     * Setup ChromeDriver, resolving the binary only when the resolution cache misses
+     */
+    private static Path setupChromeDriver() {
+        Path driverPath = startupTimings.time("chrome", Phase.RESOLUTION,
+                () -> resolutionCache.resolve("chrome", DriverManager::resolveChromeDriver));
+        System.setProperty("webdriver.chrome.driver", driverPath.toString());
+        return driverPath;
+    }
+
+    /**
+     * Resolve ChromeDriver binary with offline fallback
+     */
+    private static Path resolveChromeDriver() {
+        String driverName = DriverResolutionCache.getExecutableName("chromedriver");
         try {
             // For CI environments, try WebDriverManager first
-            if (isCIEnvironment()) {
+            if (CapabilitiesRegistry.isCIEnvironment()) {
                 logger.info("CI environment detected, using WebDriverManager");
                 WebDriverManager chromeManager = WebDriverManager.chromedriver();
                 chromeManager.cachePath(config.getDriverCachePath());
                 chromeManager.timeout(60); // Longer timeout for CI
                 chromeManager.setup();
                 logger.info("Downloaded ChromeDriver using WebDriverManager for CI");
-                return;
+                return Paths.get(chromeManager.getDownloadedDriverPath());
             }
             
             // Check for local driver first (for local development)
-            String driverPath = DriverSetupUtils.getDriverPath("chromedriver.exe");
+            String driverPath = DriverSetupUtils.getDriverPath(driverName);
             if (driverPath != null) {
-                System.setProperty("webdriver.chrome.driver", driverPath);
                 logger.info("Using local ChromeDriver: {}", driverPath);
-                return;
+                return Paths.get(driverPath);
             }
 
             // Try WebDriverManager with configured settings
@@ -108,7 +364,7 @@ public class DriverManager {
                 chromeManager.timeout(config.getDriverDownloadTimeout());
                 chromeManager.setup();
                 logger.info("Downloaded ChromeDriver using WebDriverManager");
-                return;
+                return Paths.get(chromeManager.getDownloadedDriverPath());
             }
             
         } catch (Exception e) {
@@ -116,11 +372,10 @@ public class DriverManager {
         }
 
         // Final fallback to system PATH
-        String driverName = System.getProperty("os.name").toLowerCase().contains("win") ? "chromedriver.exe" : "chromedriver";
         String systemChromeDriver = findDriverInPath(driverName);
         if (systemChromeDriver != null) {
-            System.setProperty("webdriver.chrome.driver", systemChromeDriver);
             logger.info("Using system ChromeDriver: {}", systemChromeDriver);
+            return Paths.get(systemChromeDriver);
         } else {
             String errorMsg = "ChromeDriver not found. Please:\n" +
                     "1. Place " + driverName + " in " + config.getDriverLocalPath() + "\n" +
@@ -132,88 +387,39 @@ public class DriverManager {
     }
 
     /**
-     * Create Chrome options
+     * Create Firefox WebDriver with offline fallback support
      */
-    private static ChromeOptions createChromeOptions() {
-        ChromeOptions options = new ChromeOptions();
-        
-        if (config.isBrowserHeadless()) {
-            options.addArguments("--headless=new");
-        }
-        if (config.isBrowserIncognito()) {
-            options.addArguments("--incognito");
-        }
-        
-        // Essential Chrome options for automation
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--no-first-run");
-        options.addArguments("--disable-default-apps");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-translate");
-        options.addArguments("--disable-background-timer-throttling");
-        options.addArguments("--disable-renderer-backgrounding");
-        options.addArguments("--disable-backgrounding-occluded-windows");
-        options.addArguments("--remote-allow-origins=*");
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        options.addArguments("--disable-ipc-flooding-protection");
-        
-        // Additional options for CI environments
-        if (isCIEnvironment()) {
-            options.addArguments("--disable-web-security");
-            options.addArguments("--disable-features=VizDisplayCompositor");
-            options.addArguments("--disable-software-rasterizer");
-            options.addArguments("--disable-background-networking");
-            options.addArguments("--disable-sync");
-            options.addArguments("--metrics-recording-only");
-            options.addArguments("--disable-default-apps");
-            options.addArguments("--mute-audio");
-            options.addArguments("--no-first-run");
-            options.addArguments("--safebrowsing-disable-auto-update");
-            options.addArguments("--ignore-ssl-errors=yes");
-            options.addArguments("--ignore-certificate-errors");
-            options.addArguments("--allow-running-insecure-content");
-            
-            // Force headless in CI if not explicitly disabled
-            if (!config.isBrowserHeadless()) {
-                String ciHeadless = System.getProperty("browser.headless", "false");
-                if ("true".equalsIgnoreCase(ciHeadless)) {
-                    options.addArguments("--headless=new");
-                    logger.info("Forcing headless mode in CI environment");
-                }
-            }
+    private static WebDriver createFirefoxDriver() {
+        Path driverPath = setupFirefoxDriver();
+        FirefoxOptions options = CapabilitiesRegistry.firefoxOptions(Profile.fromConfig("firefox"));
+        if (config.isDriverServiceShared()) {
+            return serviceRegistry.startSession("firefox", driverPath, options);
         }
-        
-        // Remove automation indicators
-        options.setExperimentalOption("useAutomationExtension", false);
-        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
-        options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/131.0.0.0 Safari/537.36");
-
-        return options;
+        return startLocalSession("firefox", driverPath,
+                (service, clientConfig) -> new FirefoxDriver((GeckoDriverService) service, options, clientConfig));
     }
 
     /**
-     * Create Firefox WebDriver with offline fallback support
+     * Setup FirefoxDriver, resolving the binary only when the resolution cache misses
      */
-    private static WebDriver createFirefoxDriver() {
-        setupFirefoxDriver();
-        FirefoxOptions options = createFirefoxOptions();
-        return new FirefoxDriver(options);
+    private static Path setupFirefoxDriver() {
+        Path driverPath = startupTimings.time("firefox", Phase.RESOLUTION,
+                () -> resolutionCache.resolve("firefox", DriverManager::resolveFirefoxDriver));
+        System.setProperty("webdriver.gecko.driver", driverPath.toString());
+        return driverPath;
     }
 
     /**
-     * Setup FirefoxDriver with offline fallback
+     * Resolve FirefoxDriver binary with offline fallback
      */
-    private static void setupFirefoxDriver() {
+    private static Path resolveFirefoxDriver() {
+        String driverName = DriverResolutionCache.getExecutableName("geckodriver");
         try {
             // Check for local driver first
-            String driverPath = DriverSetupUtils.getDriverPath("geckodriver.exe");
+            String driverPath = DriverSetupUtils.getDriverPath(driverName);
             if (driverPath != null) {
-                System.setProperty("webdriver.gecko.driver", driverPath);
                 logger.info("Using local FirefoxDriver: {}", driverPath);
-                return;
+                return Paths.get(driverPath);
             }
 
             // Try WebDriverManager with configured settings
@@ -223,7 +429,7 @@ public class DriverManager {
                 firefoxManager.timeout(config.getDriverDownloadTimeout());
                 firefoxManager.setup();
                 logger.info("Downloaded FirefoxDriver using WebDriverManager");
-                return;
+                return Paths.get(firefoxManager.getDownloadedDriverPath());
             }
             
         } catch (Exception e) {
@@ -231,13 +437,13 @@ public class DriverManager {
         }
 
         // Final fallback to system PATH
-        String systemFirefoxDriver = findDriverInPath("geckodriver.exe");
+        String systemFirefoxDriver = findDriverInPath(driverName);
         if (systemFirefoxDriver != null) {
-            System.setProperty("webdriver.gecko.driver", systemFirefoxDriver);
             logger.info("Using system FirefoxDriver: {}", systemFirefoxDriver);
+            return Paths.get(systemFirefoxDriver);
         } else {
             String errorMsg = "FirefoxDriver not found. Please:\n" +
-                    "1. Place geckodriver.exe in " + config.getDriverLocalPath() + "\n" +
+                    "1. Place " + driverName + " in " + config.getDriverLocalPath() + "\n" +
                     "2. Or ensure Firefox is installed and geckodriver is in PATH\n" +
                     "3. Or enable auto-download with internet connection";
             logger.error(errorMsg);
@@ -246,44 +452,45 @@ public class DriverManager {
     }
 
     /**
-     * Create Firefox options
+     * Create Edge WebDriver with offline fallback support
      */
-    private static FirefoxOptions createFirefoxOptions() {
-        FirefoxOptions options = new FirefoxOptions();
-        
-        if (config.isBrowserHeadless()) {
-            options.addArguments("--headless");
-        }
-        
-        // Common Firefox options
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--width=1920");
-        options.addArguments("--height=1080");
-
-        return options;
+    private static WebDriver createEdgeDriver() {
+        Path driverPath = setupEdgeDriver();
+        Profile profile = Profile.fromConfig("edge");
+        return startChromium(profile, userDataDir -> {
+            EdgeOptions options = CapabilitiesRegistry.edgeOptions(profile);
+            if (userDataDir != null) {
+                options.addArguments("--user-data-dir=" + userDataDir);
+            }
+            if (config.isDriverServiceShared()) {
+                return serviceRegistry.startSession("edge", driverPath, options);
+            }
+            return startLocalSession("edge", driverPath,
+                    (service, clientConfig) -> new EdgeDriver((EdgeDriverService) service, options, clientConfig));
+        });
     }
 
     /**
-     * Create Edge WebDriver with offline fallback support
+     * Setup EdgeDriver, resolving the binary only when the resolution cache misses
      */
-    private static WebDriver createEdgeDriver() {
-        setupEdgeDriver();
-        EdgeOptions options = createEdgeOptions();
-        return new EdgeDriver(options);
+    private static Path setupEdgeDriver() {
+        Path driverPath = startupTimings.time("edge", Phase.RESOLUTION,
+                () -> resolutionCache.resolve("edge", DriverManager::resolveEdgeDriver));
+        System.setProperty("webdriver.edge.driver", driverPath.toString());
+        return driverPath;
     }
 
     /**
-     * Setup EdgeDriver with offline fallback
+     * Resolve EdgeDriver binary with offline fallback
      */
-    private static void setupEdgeDriver() {
+    private static Path resolveEdgeDriver() {
+        String driverName = DriverResolutionCache.getExecutableName("msedgedriver");
         try {
             // Check for local driver first
-            String driverPath = DriverSetupUtils.getDriverPath("msedgedriver.exe");
+            String driverPath = DriverSetupUtils.getDriverPath(driverName);
             if (driverPath != null) {
-                System.setProperty("webdriver.edge.driver", driverPath);
                 logger.info("Using local EdgeDriver: {}", driverPath);
-                return;
+                return Paths.get(driverPath);
             }
 
             // Try WebDriverManager with configured settings
@@ -293,7 +500,7 @@ public class DriverManager {
                 edgeManager.timeout(config.getDriverDownloadTimeout());
                 edgeManager.setup();
                 logger.info("Downloaded EdgeDriver using WebDriverManager");
-                return;
+                return Paths.get(edgeManager.getDownloadedDriverPath());
             }
             
         } catch (Exception e) {
@@ -301,13 +508,13 @@ public class DriverManager {
         }
 
         // Final fallback to system PATH
-        String systemEdgeDriver = findDriverInPath("msedgedriver.exe");
+        String systemEdgeDriver = findDriverInPath(driverName);
         if (systemEdgeDriver != null) {
-            System.setProperty("webdriver.edge.driver", systemEdgeDriver);
             logger.info("Using system EdgeDriver: {}", systemEdgeDriver);
+            return Paths.get(systemEdgeDriver);
         } else {
             String errorMsg = "EdgeDriver not found. Please:\n" +
-                    "1. Place msedgedriver.exe in " + config.getDriverLocalPath() + "\n" +
+                    "1. Place " + driverName + " in " + config.getDriverLocalPath() + "\n" +
                     "2. Or ensure Edge is installed and msedgedriver is in PATH\n" +
                     "3. Or enable auto-download with internet connection";
             logger.error(errorMsg);
@@ -315,38 +522,6 @@ public class DriverManager {
         }
     }
 
-    /**
-     * Create Edge options
-     */
-    private static EdgeOptions createEdgeOptions() {
-        EdgeOptions options = new EdgeOptions();
-        
-        if (config.isBrowserHeadless()) {
-            options.addArguments("--headless=new");
-        }
-        if (config.isBrowserIncognito()) {
-            options.addArguments("--inprivate");
-        }
-        
-        // Essential Edge options for automation
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--no-first-run");
-        options.addArguments("--disable-default-apps");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-translate");
-        options.addArguments("--remote-allow-origins=*");
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        
-        // Remove automation indicators
-        options.setExperimentalOption("useAutomationExtension", false);
-        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
-
-        return options;
-    }
-
     /**
      * Configure WebDriver with timeouts and window settings
      */
@@ -369,38 +544,152 @@ public class DriverManager {
     }
 
     /**
-     * Get the current thread's WebDriver instance
+     * Get the current test's WebDriver instance
      */
     public static WebDriver getDriver() {
-        WebDriver driver = driverThreadLocal.get();
+        WebDriver driver = TestContext.current().getDriver();
         if (driver == null) {
-            throw new RuntimeException("Driver not initialized for current thread");
+            throw new RuntimeException("Driver not initialized for current test");
         }
         return driver;
     }
 
+    /**
+     * Wipe the current test's session with the configured reset strategy instead of quitting
+     * and recreating it
+     */
+    public static void resetSession() {
+        WebDriver driver = getDriver();
+        long start = System.nanoTime();
+        resetStrategy.reset(driver);
+        logger.debug("Session reset with strategy {} in {} ms", resetStrategy.getName(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Get the configured session reset strategy
+     */
+    public static SessionResetStrategy getResetStrategy() {
+        return resetStrategy;
+    }
+
     /**
      * Quit WebDriver and clean up resources
      */
     public static void quitDriver() {
-        WebDriver driver = driverThreadLocal.get();
+        WebDriver driver = TestContext.current().getDriver();
         if (driver != null) {
+            processRegistry.unbind(driver);
+            RequestFilter.Counts blocked = requestFilter.resetCounts(driver);
+            TestContext.current().setAttribute(BLOCKED_REQUESTS, blocked);
+            if (blocked.getRequests() > 0) {
+                logger.debug("Request filter for this test: {}", blocked);
+            }
             try {
-                driver.quit();
-                logger.info("Driver quit successfully");
+                if (config.isDriverPoolEnabled()) {
+                    driverPool.release(driver);
+                    logger.info("Driver returned to pool");
+                } else {
+                    disposeDriver(driver);
+                    logger.info("Driver quit successfully");
+                }
             } catch (Exception e) {
                 logger.error("Error while quitting driver", e);
             } finally {
-                driverThreadLocal.remove();
+                TestContext context = TestContext.current();
+                context.setDriver(null);
+                admissionController.release(context.removeAttribute(ADMISSION_PERMIT));
             }
         }
     }
 
     /**
-     * Check if driver is initialized for current thread
+     * Time the current test's session spent queued for admission, in milliseconds
+     */
+    public static long getAdmissionQueueMillis() {
+        AdmissionController.Permit permit = TestContext.current().getAttribute(ADMISSION_PERMIT);
+        return permit != null ? permit.getQueueMillis() : 0;
+    }
+
+    /**
+     * Requests blocked for the current test so far, or in total once its driver was quit
+     */
+    public static RequestFilter.Counts getBlockedRequests() {
+        TestContext context = TestContext.current();
+        WebDriver driver = context.getDriver();
+        if (driver != null) {
+            return requestFilter.getCounts(driver);
+        }
+        RequestFilter.Counts blocked = context.getAttribute(BLOCKED_REQUESTS);
+        return blocked != null ? blocked : RequestFilter.Counts.NONE;
+    }
+
+    /**
+     * Requests blocked by every session of the run
+     */
+    public static RequestFilter.Counts getBlockedRequestTotals() {
+        return requestFilter.getTotals();
+    }
+
+    /**
+     * HTTP client of the WebDriver commands, with requests per second, latency and connection churn per browser
+     */
+    public static CommandTransport getCommandTransport() {
+        return commandTransport;
+    }
+
+    /**
+     * Get admission control metrics (admitted sessions, queue times)
+     */
+    public static AdmissionController.Stats getAdmissionStats() {
+        return admissionController.getStats();
+    }
+
+    /**
+     * Quit all idle pooled and prefetched sessions and stop shared driver services
+     */
+    public static void shutdownPool() {
+        // The executor is only stopped by the JVM shutdown hook, later suites keep prefetching
+        provisioner.drain();
+        driverPool.shutdown();
+        serviceRegistry.shutdown();
+        profileTemplates.shutdown();
+    }
+
+    /**
+     * Per-browser startup latency by phase (WebDriverManager setup, resolution, spawn, handshake, configuration)
+     */
+    public static StartupTimings getStartupTimings() {
+        return startupTimings;
+    }
+
+    /**
+     * Average Chromium startup time with and without a profile template, per browser
+     */
+    public static Map<String, String> getStartupSummary() {
+        return profileTemplates.getStartupSummary();
+    }
+
+    /**
+     * Get session process metrics (tracked sessions, leaked sessions, processes killed)
+     */
+    public static SessionProcessRegistry.Stats getProcessStats() {
+        return processRegistry.getStats();
+    }
+
+    /**
+     * Get driver pool metrics (lease wait time, hit rate, sessions created)
+     */
+    public static DriverPool.Stats getPoolStats() {
+        return driverPool.getStats();
+    }
+
+    /**
+     * Check if driver is initialized for current test
      */
     public static boolean isDriverInitialized() {
-        return driverThreadLocal.get() != null;
+        TestContext context = TestContext.peek();
+        return context != null && context.getDriver() != null;
     }
 
     /**
@@ -446,7 +735,10 @@ public class DriverManager {
             }
         }
 
-        // Also check common installation locations
+        // Also check common Windows installation locations
+        if (!driverName.endsWith(".exe")) {
+            return null;
+        }
         String[] commonPaths = {
             "C:/Program Files/Google/Chrome/Application",
             "C:/Program Files (x86)/Google/Chrome/Application", 
@@ -511,16 +803,4 @@ public class DriverManager {
             logger.error("Error setting up offline drivers: {}", e.getMessage());
         }
     }
-
-    /**
-     * Check if running in CI environment
-     */
-    private static boolean isCIEnvironment() {
-        return System.getenv("CI") != null || 
-               System.getenv("GITHUB_ACTIONS") != null ||
-               System.getenv("JENKINS_URL") != null ||
-               System.getenv("TRAVIS") != null ||
-               System.getenv("CIRCLECI") != null ||
-               System.getenv("GITLAB_CI") != null;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,297 @@
+package com.automation.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool of warm WebDriver sessions keyed by browser/options profile.
+ * Sessions are leased to a test, reset on release and kept idle for the next lease
+ * until they reach the configured number of uses or stop responding.
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private volatile int maxIdlePerKey;
+    private volatile int maxUsesPerSession;
+    private final SessionResetStrategy resetStrategy;
+    private final Consumer<WebDriver> disposer;
+    private final Map<String, Deque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong sessionsCreated = new AtomicLong();
+    private final AtomicLong sessionsRetired = new AtomicLong();
+    private final AtomicLong resetFailures = new AtomicLong();
+    private final AtomicLong totalLeaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+    /**
+     * @param maxIdlePerKey     maximum number of idle sessions kept per pool key
+     * @param maxUsesPerSession number of leases after which a session is retired
+     * @param resetStrategy     strategy used to wipe a session before it goes back to the pool
+     * @param disposer          callback used to quit retired sessions
+     */
+    public DriverPool(int maxIdlePerKey, int maxUsesPerSession, SessionResetStrategy resetStrategy,
+                      Consumer<WebDriver> disposer) {
+        this.maxIdlePerKey = Math.max(0, maxIdlePerKey);
+        this.maxUsesPerSession = Math.max(1, maxUsesPerSession);
+        this.resetStrategy = resetStrategy;
+        this.disposer = disposer;
+    }
+
+    /**
+     * Lease a session for the given key, creating one with the factory on a pool miss
+     */
+    public WebDriver lease(String key, Supplier<WebDriver> factory) {
+        long start = System.nanoTime();
+        leases.incrementAndGet();
+
+        PooledSession session = pollHealthyIdle(key);
+        if (session != null) {
+            hits.incrementAndGet();
+            logger.debug("Reusing pooled session for key {} (use {})", key, session.uses + 1);
+        } else {
+            session = new PooledSession(key, factory.get());
+            sessionsCreated.incrementAndGet();
+            logger.debug("Created new pooled session for key {}", key);
+        }
+
+        session.uses++;
+        leasedSessions.put(session.driver, session);
+        recordLeaseWait(System.nanoTime() - start);
+        return session.driver;
+    }
+
+    /**
+     * Return a leased session to the pool, resetting its state or retiring it
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            logger.warn("Releasing a driver that was not leased from the pool, quitting it");
+            disposer.accept(driver);
+            return;
+        }
+
+        if (session.uses >= maxUsesPerSession) {
+            logger.debug("Retiring session for key {} after {} uses", session.key, session.uses);
+            retire(session);
+            return;
+        }
+
+        if (!resetSession(driver)) {
+            resetFailures.incrementAndGet();
+            retire(session);
+            return;
+        }
+
+        Deque<PooledSession> idle = idleSessions.computeIfAbsent(session.key, k -> new ConcurrentLinkedDeque<>());
+        if (idle.size() >= maxIdlePerKey) {
+            retire(session);
+        } else {
+            idle.offerFirst(session);
+        }
+    }
+
+    /**
+     * Change the pool limits while it is in use; idle sessions above the new limit are quit,
+     * leased ones are retired on release once they reach the new number of uses
+     */
+    public void resize(int maxIdlePerKey, int maxUsesPerSession) {
+        this.maxIdlePerKey = Math.max(0, maxIdlePerKey);
+        this.maxUsesPerSession = Math.max(1, maxUsesPerSession);
+        for (Deque<PooledSession> idle : idleSessions.values()) {
+            PooledSession session;
+            while (idle.size() > this.maxIdlePerKey && (session = idle.pollLast()) != null) {
+                retire(session);
+            }
+        }
+        logger.info("Driver pool resized: max idle per key {}, max uses per session {}",
+                this.maxIdlePerKey, this.maxUsesPerSession);
+    }
+
+    /**
+     * Retire a leased session without returning it to the pool
+     */
+    public void invalidate(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session != null) {
+            retire(session);
+        } else {
+            disposer.accept(driver);
+        }
+    }
+
+    /**
+     * Quit all idle sessions. Leased sessions are left to their owners.
+     */
+    public void shutdown() {
+        for (Deque<PooledSession> idle : idleSessions.values()) {
+            PooledSession session;
+            while ((session = idle.pollFirst()) != null) {
+                retire(session);
+            }
+        }
+        logger.info("Driver pool shut down: {}", getStats());
+    }
+
+    /**
+     * Get a snapshot of the pool metrics
+     */
+    public Stats getStats() {
+        int idle = idleSessions.values().stream().mapToInt(Deque::size).sum();
+        return new Stats(leases.get(), hits.get(), sessionsCreated.get(), sessionsRetired.get(),
+                resetFailures.get(), totalLeaseWaitNanos.get(), maxLeaseWaitNanos.get(),
+                idle, leasedSessions.size());
+    }
+
+    private PooledSession pollHealthyIdle(String key) {
+        Deque<PooledSession> idle = idleSessions.get(key);
+        if (idle == null) {
+            return null;
+        }
+
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            if (isHealthy(session.driver)) {
+                return session;
+            }
+            logger.warn("Discarding unhealthy pooled session for key {}", key);
+            retire(session);
+        }
+        return null;
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return driver.getWindowHandle() != null;
+        } catch (Exception e) {
+            logger.debug("Pooled session health check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Wipe session state with the configured strategy so the next lease starts from a clean slate
+     */
+    private boolean resetSession(WebDriver driver) {
+        try {
+            resetStrategy.reset(driver);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to reset pooled session with strategy {}: {}", resetStrategy.getName(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void retire(PooledSession session) {
+        sessionsRetired.incrementAndGet();
+        try {
+            disposer.accept(session.driver);
+        } catch (Exception e) {
+            logger.error("Error while retiring pooled session for key {}", session.key, e);
+        }
+    }
+
+    private void recordLeaseWait(long nanos) {
+        totalLeaseWaitNanos.addAndGet(nanos);
+        maxLeaseWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static final class PooledSession {
+        private final String key;
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledSession(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+    }
+
+    /**
+     * Immutable snapshot of pool metrics
+     */
+    public static final class Stats {
+        private final long leases;
+        private final long hits;
+        private final long sessionsCreated;
+        private final long sessionsRetired;
+        private final long resetFailures;
+        private final long totalLeaseWaitNanos;
+        private final long maxLeaseWaitNanos;
+        private final int idleSessions;
+        private final int leasedSessions;
+
+        private Stats(long leases, long hits, long sessionsCreated, long sessionsRetired, long resetFailures,
+                      long totalLeaseWaitNanos, long maxLeaseWaitNanos, int idleSessions, int leasedSessions) {
+            this.leases = leases;
+            this.hits = hits;
+            this.sessionsCreated = sessionsCreated;
+            this.sessionsRetired = sessionsRetired;
+            this.resetFailures = resetFailures;
+            this.totalLeaseWaitNanos = totalLeaseWaitNanos;
+            this.maxLeaseWaitNanos = maxLeaseWaitNanos;
+            this.idleSessions = idleSessions;
+            this.leasedSessions = leasedSessions;
+        }
+
+        public long getLeases() {
+            return leases;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public double getHitRate() {
+            return leases == 0 ? 0.0 : (double) hits / leases;
+        }
+
+        public long getSessionsCreated() {
+            return sessionsCreated;
+        }
+
+        public long getSessionsRetired() {
+            return sessionsRetired;
+        }
+
+        public long getResetFailures() {
+            return resetFailures;
+        }
+
+        public double getAverageLeaseWaitMillis() {
+            return leases == 0 ? 0.0 : totalLeaseWaitNanos / 1_000_000.0 / leases;
+        }
+
+        public double getMaxLeaseWaitMillis() {
+            return maxLeaseWaitNanos / 1_000_000.0;
+        }
+
+        public int getIdleSessions() {
+            return idleSessions;
+        }
+
+        public int getLeasedSessions() {
+            return leasedSessions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("leases=%d, hitRate=%.1f%%, created=%d, retired=%d, resetFailures=%d, "
+                            + "avgLeaseWait=%.1fms, maxLeaseWait=%.1fms, idle=%d, leased=%d",
+                    leases, getHitRate() * 100, sessionsCreated, sessionsRetired, resetFailures,
+                    getAverageLeaseWaitMillis(), getMaxLeaseWaitMillis(), idleSessions, leasedSessions);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.automation.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Ahead-of-time browser session provisioner.
+ * Every acquisition starts spawning the next session for the same key on a background executor,
+ * so browser startup overlaps with the running test instead of being added to the next setUp.
+ */
+public class DriverProvisioner {
+    private static final Logger logger = LogManager.getLogger(DriverProvisioner.class);
+
+    private final int prefetchDepth;
+    private final Consumer<WebDriver> disposer;
+    private final ExecutorService executor;
+    private final Map<String, Deque<CompletableFuture<WebDriver>>> prefetched = new ConcurrentHashMap<>();
+    private volatile boolean shutdown;
+
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong prefetchHits = new AtomicLong();
+    private final AtomicLong spawns = new AtomicLong();
+    private final AtomicLong spawnFailures = new AtomicLong();
+
+    /**
+     * @param maxInFlight   maximum number of sessions being spawned at the same time
+     * @param prefetchDepth number of ready or in-flight sessions kept ahead per key
+     * @param disposer      callback used to quit sessions that were never handed over
+     */
+    public DriverProvisioner(int maxInFlight, int prefetchDepth, Consumer<WebDriver> disposer) {
+        this.prefetchDepth = Math.max(0, prefetchDepth);
+        this.disposer = disposer;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, maxInFlight), runnable -> {
+            Thread thread = new Thread(runnable, "driver-provisioner-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Hand over a prefetched session for the key (or start one now) and begin prefetching the next one.
+     * A prefetched session that fails to start is replaced by one started on the calling thread,
+     * so a transient background failure costs a startup rather than the test.
+     */
+    public WebDriver acquire(String key, Supplier<WebDriver> factory) {
+        acquisitions.incrementAndGet();
+
+        CompletableFuture<WebDriver> session = pollPrefetched(key);
+        if (session == null) {
+            session = spawn(key, factory);
+            prefetch(key, factory);
+            return await(session);
+        }
+
+        prefetchHits.incrementAndGet();
+        logger.debug("Handing over prefetched session for key {}", key);
+        prefetch(key, factory);
+        try {
+            return session.join();
+        } catch (CompletionException e) {
+            logger.warn("Prefetched session for key {} failed to start, starting one now: {}", key,
+                    cause(e).getMessage());
+            return factory.get();
+        }
+    }
+
+    /**
+     * Start spawning sessions for the key in the background without handing them over
+     */
+    public void prefetch(String key, Supplier<WebDriver> factory) {
+        if (shutdown || prefetchDepth == 0) {
+            return;
+        }
+
+        Deque<CompletableFuture<WebDriver>> queue = prefetched.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+        synchronized (queue) {
+            while (queue.size() < prefetchDepth) {
+                queue.offerLast(spawn(key, factory));
+            }
+        }
+    }
+
+    /**
+     * Quit every session that was spawned but never handed over, keeping the provisioner usable
+     * so a later suite in the same JVM prefetches again
+     */
+    public void drain() {
+        for (Deque<CompletableFuture<WebDriver>> queue : prefetched.values()) {
+            CompletableFuture<WebDriver> future;
+            while ((future = queue.pollFirst()) != null) {
+                future.thenAccept(this::dispose);
+            }
+        }
+    }
+
+    /**
+     * Stop prefetching for good and quit every session that was spawned but never handed over
+     */
+    public void shutdown() {
+        shutdown = true;
+        drain();
+        executor.shutdown();
+        logger.info("Driver provisioner shut down: acquisitions={}, prefetchHits={}, spawns={}, failures={}",
+                acquisitions.get(), prefetchHits.get(), spawns.get(), spawnFailures.get());
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.get();
+    }
+
+    public long getPrefetchHits() {
+        return prefetchHits.get();
+    }
+
+    private CompletableFuture<WebDriver> pollPrefetched(String key) {
+        Deque<CompletableFuture<WebDriver>> queue = prefetched.get(key);
+        if (queue == null) {
+            return null;
+        }
+
+        CompletableFuture<WebDriver> future;
+        while ((future = queue.pollFirst()) != null) {
+            if (!future.isCompletedExceptionally()) {
+                return future;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wait for a spawned session, unwrapping the failure of the background spawn
+     */
+    private static WebDriver await(CompletableFuture<WebDriver> session) {
+        try {
+            return session.join();
+        } catch (CompletionException e) {
+            Throwable cause = cause(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause.getMessage(), cause);
+        }
+    }
+
+    private static Throwable cause(CompletionException e) {
+        return e.getCause() != null ? e.getCause() : e;
+    }
+
+    private CompletableFuture<WebDriver> spawn(String key, Supplier<WebDriver> factory) {
+        spawns.incrementAndGet();
+        if (shutdown) {
+            // Executor is gone, fall back to a synchronous spawn on the caller thread
+            return CompletableFuture.completedFuture(factory.get());
+        }
+        return CompletableFuture.supplyAsync(factory, executor)
+                .whenComplete((driver, error) -> {
+                    if (error != null) {
+                        spawnFailures.incrementAndGet();
+                        logger.warn("Background session spawn failed for key {}: {}", key, error.getMessage());
+                    }
+                });
+    }
+
+    private void dispose(WebDriver driver) {
+        try {
+            disposer.accept(driver);
+        } catch (Exception e) {
+            logger.error("Error while disposing prefetched session", e);
+        }
+    }
+}
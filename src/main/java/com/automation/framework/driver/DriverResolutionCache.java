@@ -0,0 +1,230 @@
+package com.automation.framework.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Persistent cache of resolved driver binaries.
+ * Entries are keyed by browser, OS, architecture and installed browser version, resolved once per JVM
+ * and validated against the binary's size, modification time and SHA-256 hash before being trusted.
+ */
+public class DriverResolutionCache {
+    private static final Logger logger = LogManager.getLogger(DriverResolutionCache.class);
+    private static final String CACHE_FILE_NAME = "driver-resolution.properties";
+    private static final Pattern VERSION_PATTERN = Pattern.compile("\\d+(\\.\\d+)+");
+
+    private final Path cacheFile;
+    private final Properties entries = new Properties();
+    private final Map<String, Path> resolvedThisRun = new ConcurrentHashMap<>();
+    private final Map<String, String> browserVersions = new ConcurrentHashMap<>();
+
+    public DriverResolutionCache(String cacheDirectory) {
+        this.cacheFile = Paths.get(cacheDirectory, CACHE_FILE_NAME);
+        load();
+    }
+
+    /**
+     * Resolve the driver binary for a browser, running the slow resolution only on a cache miss
+     */
+    public Path resolve(String browser, Supplier<Path> slowPath) {
+        String key = getCacheKey(browser);
+        Path cached = resolvedThisRun.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (this) {
+            cached = resolvedThisRun.get(key);
+            if (cached != null) {
+                return cached;
+            }
+
+            Path persisted = loadValidEntry(key);
+            if (persisted != null) {
+                logger.info("Using cached {} driver resolution: {}", browser, persisted);
+                resolvedThisRun.put(key, persisted);
+                return persisted;
+            }
+
+            logger.info("No valid cached driver for {}, resolving", key);
+            Path resolved = slowPath.get().toAbsolutePath();
+            store(key, resolved);
+            resolvedThisRun.put(key, resolved);
+            return resolved;
+        }
+    }
+
+    /**
+     * Drop every cached entry for a browser, e.g. after the driver failed to start
+     */
+    public synchronized void invalidate(String browser) {
+        String key = getCacheKey(browser);
+        resolvedThisRun.remove(key);
+        entries.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(key + "."))
+                .forEach(entries::remove);
+        save();
+    }
+
+    /**
+     * Cache key made of browser, OS, architecture and installed browser version
+     */
+    public String getCacheKey(String browser) {
+        return String.join("|", browser, getOsName(), System.getProperty("os.arch"), getBrowserVersion(browser));
+    }
+
+    /**
+     * Platform specific executable name for a driver, e.g. chromedriver or chromedriver.exe
+     */
+    public static String getExecutableName(String driverName) {
+        return "windows".equals(getOsName()) ? driverName + ".exe" : driverName;
+    }
+
+    private static String getOsName() {
+        String os = System.getProperty("os.name").toLowerCase();
+        if (os.contains("win")) {
+            return "windows";
+        }
+        if (os.contains("mac")) {
+            return "mac";
+        }
+        return "linux";
+    }
+
+    private String getBrowserVersion(String browser) {
+        return browserVersions.computeIfAbsent(browser, DriverResolutionCache::detectBrowserVersion);
+    }
+
+    /**
+     * Detect the installed browser version once per JVM. On Windows the binary does not print its
+     * version, so the executable's size and modification time are used as the version stamp instead.
+     */
+    private static String detectBrowserVersion(String browser) {
+        try {
+            WebDriverManager manager = switch (browser) {
+                case "firefox" -> WebDriverManager.firefoxdriver();
+                case "edge" -> WebDriverManager.edgedriver();
+                default -> WebDriverManager.chromedriver();
+            };
+            Optional<Path> browserPath = manager.getBrowserPath();
+            if (browserPath.isEmpty()) {
+                return "unknown";
+            }
+
+            Path binary = browserPath.get().toRealPath();
+            if (!"windows".equals(getOsName())) {
+                Process process = new ProcessBuilder(binary.toString(), "--version").redirectErrorStream(true).start();
+                if (process.waitFor(5, TimeUnit.SECONDS)) {
+                    String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                    Matcher matcher = VERSION_PATTERN.matcher(output);
+                    if (matcher.find()) {
+                        return matcher.group();
+                    }
+                } else {
+                    process.destroyForcibly();
+                }
+            }
+            return Files.size(binary) + "-" + Files.getLastModifiedTime(binary).toMillis();
+        } catch (Exception e) {
+            logger.debug("Could not detect {} browser version: {}", browser, e.getMessage());
+            return "unknown";
+        }
+    }
+
+    private Path loadValidEntry(String key) {
+        String path = entries.getProperty(key + ".path");
+        if (path == null) {
+            return null;
+        }
+
+        Path binary = Paths.get(path);
+        try {
+            if (!Files.isExecutable(binary)
+                    || Files.size(binary) != Long.parseLong(entries.getProperty(key + ".size", "-1"))
+                    || Files.getLastModifiedTime(binary).toMillis() != Long.parseLong(entries.getProperty(key + ".mtime", "-1"))
+                    || !sha256(binary).equals(entries.getProperty(key + ".sha256"))) {
+                logger.info("Cached driver for {} is stale: {}", key, binary);
+                return null;
+            }
+            return binary;
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Cached driver for {} could not be validated: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, Path binary) {
+        try {
+            entries.setProperty(key + ".path", binary.toString());
+            entries.setProperty(key + ".size", String.valueOf(Files.size(binary)));
+            entries.setProperty(key + ".mtime", String.valueOf(Files.getLastModifiedTime(binary).toMillis()));
+            entries.setProperty(key + ".sha256", sha256(binary));
+            save();
+        } catch (IOException e) {
+            logger.warn("Failed to cache driver resolution for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(cacheFile)) {
+            return;
+        }
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            entries.load(in);
+            logger.debug("Loaded driver resolution cache from: {}", cacheFile);
+        } catch (IOException e) {
+            logger.warn("Failed to load driver resolution cache from {}: {}", cacheFile, e.getMessage());
+        }
+    }
+
+    private void save() {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path temp = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                entries.store(out, "Resolved driver binaries");
+            }
+            // Atomic replace so parallel JVMs never see a half written file
+            Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to persist driver resolution cache to {}: {}", cacheFile, e.getMessage());
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = Files.newInputStream(file)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.automation.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps driver server processes (chromedriver, msedgedriver, geckodriver) running for the whole JVM
+ * and starts every session against one of them, instead of spawning a new server per session.
+ * Chromium drivers serve any number of sessions from one process; geckodriver only supports one
+ * session at a time, so its services are reused sequentially.
+ */
+public class DriverServiceRegistry {
+    private static final Logger logger = LogManager.getLogger(DriverServiceRegistry.class);
+
+    private final SessionProcessRegistry processRegistry;
+    private final StartupTimings startupTimings;
+    private final CommandTransport commandTransport;
+    private final Map<String, List<ManagedService>> services = new ConcurrentHashMap<>();
+    private final Map<WebDriver, ManagedService> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong servicesStarted = new AtomicLong();
+    private final AtomicLong serviceRestarts = new AtomicLong();
+    private final Augmenter augmenter = new Augmenter();
+
+    /**
+     * @param processRegistry registry told about service processes, so they are not reaped as leaks
+     * @param startupTimings  timings that receive the spawn and handshake phases of each session
+     * @param commandTransport HTTP client configuration for the sessions' commands
+     */
+    public DriverServiceRegistry(SessionProcessRegistry processRegistry, StartupTimings startupTimings,
+                                 CommandTransport commandTransport) {
+        this.processRegistry = processRegistry;
+        this.startupTimings = startupTimings;
+        this.commandTransport = commandTransport;
+    }
+
+    /**
+     * Start a session on a running service for the browser, starting or restarting one when needed
+     */
+    public WebDriver startSession(String browser, Path driverExecutable, Capabilities options) {
+        ManagedService managed = startupTimings.time(browser, StartupTimings.Phase.SPAWN,
+                () -> acquire(browser, driverExecutable));
+        try {
+            ClientConfig clientConfig = commandTransport.clientConfig(browser, managed.service.getUrl());
+            WebDriver session;
+            try {
+                session = startupTimings.time(browser, StartupTimings.Phase.HANDSHAKE,
+                        () -> RemoteWebDriver.builder().oneOf(options).config(clientConfig).build());
+            } catch (RuntimeException e) {
+                commandTransport.sessionFailed(managed.service.getUrl());
+                throw e;
+            }
+            WebDriver driver = augment(browser, session);
+            sessions.put(driver, managed);
+            return driver;
+        } catch (RuntimeException e) {
+            release(managed);
+            throw e;
+        }
+    }
+
+    /**
+     * Add the browser-specific interfaces (HasCdp, HasDevTools, ...) a ChromeDriver or FirefoxDriver would have.
+     * Those drivers cannot be used here because quitting them stops their service.
+     */
+    private WebDriver augment(String browser, WebDriver session) {
+        WebDriver driver;
+        try {
+            driver = augmenter.augment(session);
+        } catch (RuntimeException e) {
+            session.quit();
+            throw e;
+        }
+        if (!"firefox".equals(browser) && !(driver instanceof HasCdp)) {
+            logger.warn("{} session has no CDP access; CDP session reset, request blocking and "
+                    + "network idle tracking of new documents fall back or are skipped", browser);
+        }
+        return driver;
+    }
+
+    /**
+     * Quit a session started by this registry, keeping its service running
+     */
+    public boolean quitSession(WebDriver driver) {
+        ManagedService managed = sessions.remove(driver);
+        if (managed == null) {
+            return false;
+        }
+        try {
+            driver.quit();
+        } finally {
+            release(managed);
+        }
+        return true;
+    }
+
+    /**
+     * Stop every service
+     */
+    public void shutdown() {
+        for (List<ManagedService> browserServices : services.values()) {
+            synchronized (browserServices) {
+                browserServices.forEach(this::stop);
+                browserServices.clear();
+            }
+        }
+        logger.info("Driver services stopped: started={}, restarts={}", servicesStarted.get(), serviceRestarts.get());
+    }
+
+    public long getServicesStarted() {
+        return servicesStarted.get();
+    }
+
+    public long getServiceRestarts() {
+        return serviceRestarts.get();
+    }
+
+    private ManagedService acquire(String browser, Path driverExecutable) {
+        List<ManagedService> browserServices = services.computeIfAbsent(browser, k -> new ArrayList<>());
+        synchronized (browserServices) {
+            Iterator<ManagedService> iterator = browserServices.iterator();
+            while (iterator.hasNext()) {
+                ManagedService managed = iterator.next();
+                if (!managed.hasCapacity()) {
+                    continue;
+                }
+                if (!managed.service.isRunning()) {
+                    // Dead server; sessions still bound to it are already broken
+                    logger.warn("Restarting unhealthy {} driver service at {}", browser, managed.service.getUrl());
+                    stop(managed);
+                    iterator.remove();
+                    serviceRestarts.incrementAndGet();
+                    continue;
+                }
+                if (!managed.isFor(driverExecutable)) {
+                    // Driver binary was re-resolved; retire the old server once its sessions are gone
+                    if (managed.activeSessions == 0) {
+                        stop(managed);
+                        iterator.remove();
+                    }
+                    continue;
+                }
+                managed.activeSessions++;
+                return managed;
+            }
+
+            ManagedService managed = new ManagedService(browser, start(browser, driverExecutable),
+                    maxSessionsPerService(browser));
+            managed.activeSessions++;
+            browserServices.add(managed);
+            return managed;
+        }
+    }
+
+    private void release(ManagedService managed) {
+        List<ManagedService> browserServices = services.get(managed.browser);
+        synchronized (browserServices) {
+            managed.activeSessions--;
+        }
+    }
+
+    /**
+     * Build and start a driver service for the browser on a free port
+     */
+    static DriverService startService(String browser, Path driverExecutable) {
+        DriverService service = switch (browser) {
+            case "firefox" -> new GeckoDriverService.Builder()
+                    .usingDriverExecutable(driverExecutable.toFile()).usingAnyFreePort().build();
+            case "edge" -> new EdgeDriverService.Builder()
+                    .usingDriverExecutable(driverExecutable.toFile()).usingAnyFreePort().build();
+            default -> new ChromeDriverService.Builder()
+                    .usingDriverExecutable(driverExecutable.toFile()).usingAnyFreePort().build();
+        };
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start " + browser + " driver service: " + e.getMessage(), e);
+        }
+        return service;
+    }
+
+    private DriverService start(String browser, Path driverExecutable) {
+        DriverService service = startService(browser, driverExecutable);
+        servicesStarted.incrementAndGet();
+        processRegistry.registerService(service.getUrl().getPort());
+        logger.info("Started shared {} driver service at {}", browser, service.getUrl());
+        return service;
+    }
+
+    private void stop(ManagedService managed) {
+        processRegistry.unregisterService(managed.service.getUrl().getPort());
+        managed.service.stop();
+    }
+
+    private static int maxSessionsPerService(String browser) {
+        return "firefox".equals(browser) ? 1 : Integer.MAX_VALUE;
+    }
+
+    private static final class ManagedService {
+        private final String browser;
+        private final DriverService service;
+        private final int maxSessions;
+        private int activeSessions;
+
+        private ManagedService(String browser, DriverService service, int maxSessions) {
+            this.browser = browser;
+            this.service = service;
+            this.maxSessions = maxSessions;
+        }
+
+        private boolean hasCapacity() {
+            return activeSessions < maxSessions;
+        }
+
+        private boolean isFor(Path driverExecutable) {
+            return driverExecutable.toString().equals(service.getExecutable());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.automation.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocks requests the tests never look at (analytics, fonts, images) on Chromium sessions through
+ * DevTools Network.setBlockedURLs. Resource types are translated to file extension patterns, because
+ * Chromium only blocks by URL. When a DevTools connection is available, blocked requests are counted and
+ * the bytes they would have cost are estimated from the average size of loaded resources of the same type.
+ */
+public class RequestFilter {
+    private static final Logger logger = LogManager.getLogger(RequestFilter.class);
+    private static final Map<String, List<String>> EXTENSIONS_BY_TYPE = Map.of(
+            "image", List.of("png", "jpg", "jpeg", "gif", "webp", "svg", "ico", "bmp", "avif"),
+            "font", List.of("woff", "woff2", "ttf", "otf", "eot"),
+            "media", List.of("mp4", "webm", "ogg", "mp3", "wav", "m4a"),
+            "stylesheet", List.of("css"));
+
+    private final List<String> blockedUrls;
+    private final Map<WebDriver, SessionFilter> sessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong[]> loadedByType = new ConcurrentHashMap<>();
+    private final AtomicLong totalBlocked = new AtomicLong();
+    private final AtomicLong totalBytesAvoided = new AtomicLong();
+    private final AtomicBoolean unsupportedLogged = new AtomicBoolean();
+
+    /**
+     * @param urlPatterns   URL patterns with * wildcards, e.g. *google-analytics.com*
+     * @param resourceTypes resource types to block: image, font, media, stylesheet
+     */
+    public RequestFilter(List<String> urlPatterns, Set<String> resourceTypes) {
+        Set<String> urls = new LinkedHashSet<>(urlPatterns);
+        for (String type : resourceTypes) {
+            List<String> extensions = EXTENSIONS_BY_TYPE.get(type);
+            if (extensions == null) {
+                logger.warn("Unknown resource type to block: {}", type);
+                continue;
+            }
+            for (String extension : extensions) {
+                urls.add("*." + extension);
+                urls.add("*." + extension + "?*");
+            }
+        }
+        this.blockedUrls = new ArrayList<>(urls);
+    }
+
+    /**
+     * Install the block list on a new session. Browsers without DevTools are left unfiltered.
+     */
+    public void attach(WebDriver driver) {
+        if (blockedUrls.isEmpty()) {
+            return;
+        }
+        Optional<DevTools> devTools = driver instanceof HasDevTools
+                ? ((HasDevTools) driver).maybeGetDevTools() : Optional.empty();
+        try {
+            if (devTools.isPresent()) {
+                SessionFilter session = new SessionFilter();
+                attach(devTools.get(), session);
+                sessions.put(driver, session);
+                return;
+            }
+        } catch (RuntimeException e) {
+            logger.debug("DevTools connection failed, blocking requests without counting them: {}", e.getMessage());
+        }
+
+        if (driver instanceof HasCdp) {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blockedUrls));
+            sessions.put(driver, new SessionFilter());
+            logger.debug("Blocking {} URL patterns", blockedUrls.size());
+        } else if (unsupportedLogged.compareAndSet(false, true)) {
+            logger.warn("Request blocking is enabled but the browser has no DevTools access, requests are not blocked");
+        }
+    }
+
+    /**
+     * Forget a session that was quit
+     */
+    public void detach(WebDriver driver) {
+        sessions.remove(driver);
+    }
+
+    /**
+     * Requests blocked in the session since the last reset
+     */
+    public Counts getCounts(WebDriver driver) {
+        SessionFilter session = sessions.get(driver);
+        return session != null ? new Counts(session.blocked.get(), session.bytesAvoided.get()) : Counts.NONE;
+    }
+
+    /**
+     * Requests blocked in the session since the last reset, starting a new count
+     */
+    public Counts resetCounts(WebDriver driver) {
+        SessionFilter session = sessions.get(driver);
+        if (session == null) {
+            return Counts.NONE;
+        }
+        return new Counts(session.blocked.getAndSet(0), session.bytesAvoided.getAndSet(0));
+    }
+
+    /**
+     * Requests blocked by every session of the run
+     */
+    public Counts getTotals() {
+        return new Counts(totalBlocked.get(), totalBytesAvoided.get());
+    }
+
+    public List<String> getBlockedUrls() {
+        return List.copyOf(blockedUrls);
+    }
+
+    private void attach(DevTools devTools, SessionFilter session) {
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(event("Network.responseReceived"), params -> {
+            Object type = params.get("type");
+            if (type != null) {
+                session.typesByRequest.put(String.valueOf(params.get("requestId")), type.toString().toLowerCase());
+            }
+        });
+        devTools.addListener(event("Network.loadingFinished"), params -> {
+            String type = session.typesByRequest.remove(String.valueOf(params.get("requestId")));
+            Object length = params.get("encodedDataLength");
+            if (type != null && length instanceof Number) {
+                AtomicLong[] loaded = loadedByType.computeIfAbsent(type, k -> new AtomicLong[]{new AtomicLong(), new AtomicLong()});
+                loaded[0].incrementAndGet();
+                loaded[1].addAndGet(((Number) length).longValue());
+            }
+        });
+        devTools.addListener(event("Network.loadingFailed"), params -> {
+            session.typesByRequest.remove(String.valueOf(params.get("requestId")));
+            if (params.get("blockedReason") == null) {
+                return;
+            }
+            Object type = params.get("type");
+            long bytes = estimateBytes(type != null ? type.toString().toLowerCase() : null);
+            session.blocked.incrementAndGet();
+            session.bytesAvoided.addAndGet(bytes);
+            totalBlocked.incrementAndGet();
+            totalBytesAvoided.addAndGet(bytes);
+        });
+        devTools.send(new Command<Void>("Network.enable", Map.of()));
+        devTools.send(new Command<Void>("Network.setBlockedURLs", Map.of("urls", blockedUrls)));
+        logger.debug("Blocking {} URL patterns through DevTools", blockedUrls.size());
+    }
+
+    /**
+     * Average size of loaded resources of the type, or of all loaded resources when the type was never loaded
+     */
+    private long estimateBytes(String type) {
+        AtomicLong[] loaded = type != null ? loadedByType.get(type) : null;
+        if (loaded != null && loaded[0].get() > 0) {
+            return loaded[1].get() / loaded[0].get();
+        }
+        long count = 0;
+        long bytes = 0;
+        for (AtomicLong[] sample : loadedByType.values()) {
+            count += sample[0].get();
+            bytes += sample[1].get();
+        }
+        return count == 0 ? 0 : bytes / count;
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static final class SessionFilter {
+        private final AtomicLong blocked = new AtomicLong();
+        private final AtomicLong bytesAvoided = new AtomicLong();
+        private final Map<String, String> typesByRequest = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Immutable count of blocked requests
+     */
+    public static final class Counts {
+        public static final Counts NONE = new Counts(0, 0);
+
+        private final long requests;
+        private final long estimatedBytes;
+
+        private Counts(long requests, long estimatedBytes) {
+            this.requests = requests;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("blocked=%d requests, ~%.1f KB avoided", requests, estimatedBytes / 1024.0);
+        }
+    }
+}
@@ -0,0 +1,546 @@
+package com.automation.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks the driver server and browser processes behind every session and reaps the ones that outlive it.
+ * A watchdog periodically kills process trees of sessions that were quit but did not exit, disposes sessions
+ * whose owning test thread died without quitting them, and kills driver servers started by this JVM that no
+ * session or shared service accounts for. Everything still tracked is killed at JVM shutdown, and processes
+ * left behind by a previous JVM that crashed are killed on startup. A {@link #disabled()} registry tracks,
+ * persists and kills nothing.
+ */
+public class SessionProcessRegistry {
+    private static final Logger logger = LogManager.getLogger(SessionProcessRegistry.class);
+    private static final Set<String> DRIVER_EXECUTABLES = Set.of("chromedriver", "msedgedriver", "geckodriver");
+    // Longer than any session handshake, so servers that are still starting a session are left alone
+    private static final long STRAY_MIN_AGE_MILLIS = 120_000;
+
+    private final Path stateFile;
+    private final Path stateDirectory;
+    private final long graceMillis;
+    private final Consumer<WebDriver> orphanHandler;
+    private final Map<WebDriver, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private final Set<TrackedSession> closing = ConcurrentHashMap.newKeySet();
+    private final Set<Long> servicePids = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService watchdog;
+    private final boolean enabled;
+
+    private final AtomicLong sessionsTracked = new AtomicLong();
+    private final AtomicLong orphanedSessions = new AtomicLong();
+    private final AtomicLong uncleanQuits = new AtomicLong();
+    private final AtomicLong strayDrivers = new AtomicLong();
+    private final AtomicLong processesKilled = new AtomicLong();
+
+    /**
+     * @param stateDirectory directory for the per-JVM process list used to clean up after a crashed run
+     * @param graceMillis    time a quit session's processes get to exit before they are killed
+     * @param intervalMillis watchdog interval; 0 disables the background watchdog
+     * @param orphanHandler  callback used to dispose a session whose owning thread died
+     */
+    public SessionProcessRegistry(String stateDirectory, long graceMillis, long intervalMillis,
+                                  Consumer<WebDriver> orphanHandler) {
+        this(stateDirectory, graceMillis, intervalMillis, orphanHandler, true);
+    }
+
+    private SessionProcessRegistry(String stateDirectory, long graceMillis, long intervalMillis,
+                                   Consumer<WebDriver> orphanHandler, boolean enabled) {
+        this.enabled = enabled;
+        this.stateDirectory = Paths.get(stateDirectory);
+        this.stateFile = this.stateDirectory.resolve("session-processes-" + ProcessHandle.current().pid() + ".txt");
+        this.graceMillis = graceMillis;
+        this.orphanHandler = orphanHandler;
+        if (!enabled) {
+            this.watchdog = null;
+            return;
+        }
+        reapPreviousRuns();
+
+        if (intervalMillis > 0) {
+            this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "session-reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watchdog.scheduleWithFixedDelay(this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.watchdog = null;
+        }
+    }
+
+    /**
+     * Registry for runs without the reaper: no process lookups, no state files and nothing is ever killed
+     */
+    public static SessionProcessRegistry disabled() {
+        return new SessionProcessRegistry(".", 0, 0, driver -> { }, false);
+    }
+
+    /**
+     * Record the driver server and browser processes of a newly started session
+     */
+    public void registerSession(WebDriver driver) {
+        if (!enabled) {
+            return;
+        }
+        long driverPid = findDriverPid(driver);
+        boolean shared = servicePids.contains(driverPid);
+        Set<Long> browserPids = findBrowserPids(driver);
+
+        TrackedSession session = new TrackedSession(shared ? -1 : driverPid, browserPids);
+        sessions.put(driver, session);
+        sessionsTracked.incrementAndGet();
+        persist();
+        logger.debug("Tracking session processes: driver={}, browser={}", session.driverPid, browserPids);
+    }
+
+    /**
+     * Mark the session as leased by the current thread
+     *
+     * @param onOrphan cleanup to run if the thread dies while still holding the session
+     */
+    public void bind(WebDriver driver, Runnable onOrphan) {
+        TrackedSession session = sessions.get(driver);
+        if (session != null) {
+            session.owner = Thread.currentThread();
+            session.onOrphan = onOrphan;
+        }
+    }
+
+    /**
+     * Mark the session as no longer leased by a test thread
+     */
+    public void unbind(WebDriver driver) {
+        TrackedSession session = sessions.get(driver);
+        if (session != null) {
+            session.owner = null;
+            session.onOrphan = null;
+        }
+    }
+
+    /**
+     * Stop tracking a quit session; its processes are killed if they are still alive after the grace period
+     */
+    public void sessionClosed(WebDriver driver) {
+        TrackedSession session = sessions.remove(driver);
+        if (session != null) {
+            session.closedAt = System.currentTimeMillis();
+            closing.add(session);
+        }
+    }
+
+    /**
+     * Register the process of a shared driver service, which outlives its sessions
+     */
+    public void registerService(int port) {
+        if (!enabled) {
+            return;
+        }
+        findProcessByPort(port).ifPresent(handle -> servicePids.add(handle.pid()));
+    }
+
+    /**
+     * Forget a shared driver service that was stopped
+     */
+    public void unregisterService(int port) {
+        if (!enabled) {
+            return;
+        }
+        findProcessByPort(port).ifPresent(handle -> servicePids.remove(handle.pid()));
+    }
+
+    /**
+     * Run one watchdog pass
+     */
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            for (TrackedSession session : closing) {
+                if (now - session.closedAt < graceMillis) {
+                    continue;
+                }
+                closing.remove(session);
+                if (kill(session) > 0) {
+                    uncleanQuits.incrementAndGet();
+                    logger.warn("Killed processes of a session that did not exit after quit: driver={}, browser={}",
+                            session.driverPid, session.browserPids);
+                }
+            }
+
+            for (Map.Entry<WebDriver, TrackedSession> entry : sessions.entrySet()) {
+                Thread owner = entry.getValue().owner;
+                if (owner != null && !owner.isAlive()) {
+                    reapOrphan(entry.getKey(), entry.getValue(), owner);
+                }
+            }
+
+            killStrayDrivers(now);
+            persist();
+        } catch (RuntimeException e) {
+            logger.warn("Session reaper pass failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Kill every tracked process. Used at JVM shutdown after the orderly cleanup had its chance.
+     */
+    public void reapAll() {
+        if (!enabled) {
+            return;
+        }
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+        List<TrackedSession> remaining = new ArrayList<>(sessions.values());
+        remaining.addAll(closing);
+        int killed = 0;
+        for (TrackedSession session : remaining) {
+            killed += kill(session);
+        }
+        sessions.clear();
+        closing.clear();
+        // Shared services were stopped already; anything left is a leak
+        servicePids.clear();
+        killStrayDrivers(Long.MAX_VALUE);
+
+        try {
+            Files.deleteIfExists(stateFile);
+        } catch (IOException e) {
+            logger.debug("Could not delete {}: {}", stateFile, e.getMessage());
+        }
+        if (killed > 0) {
+            logger.warn("Killed {} leftover browser/driver processes at shutdown", killed);
+        }
+        logger.info("Session processes: {}", getStats());
+    }
+
+    public Stats getStats() {
+        return new Stats(sessionsTracked.get(), orphanedSessions.get(), uncleanQuits.get(), strayDrivers.get(),
+                processesKilled.get(), sessions.size());
+    }
+
+    private void reapOrphan(WebDriver driver, TrackedSession session, Thread owner) {
+        orphanedSessions.incrementAndGet();
+        logger.warn("Thread {} died without quitting its session, disposing it", owner.getName());
+        session.owner = null;
+        Runnable onOrphan = session.onOrphan;
+        session.onOrphan = null;
+        if (onOrphan != null) {
+            onOrphan.run();
+        }
+        try {
+            orphanHandler.accept(driver);
+        } catch (RuntimeException e) {
+            logger.debug("Disposing orphaned session failed: {}", e.getMessage());
+        } finally {
+            // No-op if the handler already closed it
+            sessionClosed(driver);
+        }
+    }
+
+    /**
+     * Kill driver servers started by this JVM that belong to no tracked session or shared service
+     */
+    private void killStrayDrivers(long now) {
+        Set<Long> known = sessions.values().stream().map(s -> s.driverPid).collect(Collectors.toSet());
+        known.addAll(servicePids);
+        ProcessHandle.current().descendants()
+                .filter(handle -> isDriverExecutable(handle) && !known.contains(handle.pid()))
+                .filter(handle -> handle.info().startInstant()
+                        .map(start -> now - start.toEpochMilli() > STRAY_MIN_AGE_MILLIS).orElse(false))
+                .forEach(handle -> {
+                    strayDrivers.incrementAndGet();
+                    logger.warn("Killing untracked driver process {} ({})", handle.pid(),
+                            handle.info().command().orElse("?"));
+                    processesKilled.addAndGet(killTree(handle));
+                });
+    }
+
+    private int kill(TrackedSession session) {
+        int killed = 0;
+        if (session.driverPid > 0) {
+            killed += ProcessHandle.of(session.driverPid)
+                    .filter(session::isSameProcess)
+                    .map(SessionProcessRegistry::killTree).orElse(0);
+        }
+        // Browsers are killed separately in case their driver died and they were re-parented
+        for (long pid : session.browserPids) {
+            killed += ProcessHandle.of(pid).filter(session::isSameProcess)
+                    .map(SessionProcessRegistry::killTree).orElse(0);
+        }
+        processesKilled.addAndGet(killed);
+        return killed;
+    }
+
+    private static int killTree(ProcessHandle root) {
+        List<ProcessHandle> tree = root.descendants().collect(Collectors.toList());
+        tree.add(0, root);
+        int killed = 0;
+        for (ProcessHandle handle : tree) {
+            if (handle.isAlive() && handle.destroyForcibly()) {
+                killed++;
+            }
+        }
+        return killed;
+    }
+
+    /**
+     * Driver server process, found through the port its session talks to
+     */
+    private static long findDriverPid(WebDriver driver) {
+        if (!(driver instanceof RemoteWebDriver)) {
+            return -1;
+        }
+        CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+        if (!(executor instanceof HttpCommandExecutor)) {
+            return -1;
+        }
+        int port = ((HttpCommandExecutor) executor).getAddressOfRemoteServer().getPort();
+        return findProcessByPort(port).map(ProcessHandle::pid).orElse(-1L);
+    }
+
+    private static Optional<ProcessHandle> findProcessByPort(int port) {
+        Pattern portArgument = Pattern.compile("--port[= ]" + port + "(\\s|$)");
+        return ProcessHandle.current().descendants()
+                .filter(SessionProcessRegistry::isDriverExecutable)
+                .filter(handle -> handle.info().commandLine().map(line -> portArgument.matcher(line).find()).orElse(false))
+                .findFirst();
+    }
+
+    /**
+     * Browser processes of a session: Firefox reports its PID, Chromium browsers are matched by user data dir
+     */
+    private static Set<Long> findBrowserPids(WebDriver driver) {
+        Set<Long> pids = new LinkedHashSet<>();
+        if (!(driver instanceof HasCapabilities)) {
+            return pids;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+
+        Object firefoxPid = capabilities.getCapability("moz:processID");
+        if (firefoxPid instanceof Number) {
+            pids.add(((Number) firefoxPid).longValue());
+            return pids;
+        }
+
+        String userDataDir = chromiumUserDataDir(capabilities);
+        if (userDataDir != null) {
+            String argument = "--user-data-dir=" + userDataDir;
+            ProcessHandle.current().descendants()
+                    .filter(handle -> handle.info().arguments()
+                            .map(args -> List.of(args).contains(argument)).orElse(false))
+                    // Only the browser's main process, its helpers die with it
+                    .filter(handle -> handle.parent().map(parent -> isDriverExecutable(parent)).orElse(true))
+                    .forEach(handle -> pids.add(handle.pid()));
+        }
+        return pids;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String chromiumUserDataDir(Capabilities capabilities) {
+        for (String vendor : List.of("chrome", "msedge")) {
+            Object details = capabilities.getCapability(vendor);
+            if (details instanceof Map) {
+                Object dir = ((Map<String, Object>) details).get("userDataDir");
+                if (dir != null) {
+                    return dir.toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDriverExecutable(ProcessHandle handle) {
+        return handle.info().command()
+                .map(command -> Paths.get(command).getFileName().toString().replace(".exe", ""))
+                .map(DRIVER_EXECUTABLES::contains)
+                .orElse(false);
+    }
+
+    /**
+     * Write the tracked PIDs with their start times, so a later run can clean up if this JVM crashes
+     */
+    private synchronized void persist() {
+        List<String> lines = new ArrayList<>();
+        List<TrackedSession> tracked = new ArrayList<>(sessions.values());
+        tracked.addAll(closing);
+        for (TrackedSession session : tracked) {
+            session.startTimes.forEach((pid, start) -> lines.add(pid + " " + start));
+        }
+        try {
+            Files.createDirectories(stateDirectory);
+            Path temp = Files.createTempFile(stateDirectory, "session-processes", ".tmp");
+            Files.write(temp, lines);
+            Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Could not persist session processes to {}: {}", stateFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Kill processes recorded by JVMs that are no longer running. Start times guard against PID reuse.
+     */
+    private void reapPreviousRuns() {
+        if (!Files.isDirectory(stateDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stateDirectory, "session-processes-*.txt")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long ownerPid = Long.parseLong(name.replaceAll("\\D", ""));
+                if (ProcessHandle.of(ownerPid).map(ProcessHandle::isAlive).orElse(false)) {
+                    continue;
+                }
+                int killed = 0;
+                for (String line : Files.readAllLines(file)) {
+                    String[] parts = line.trim().split(" ");
+                    if (parts.length != 2) {
+                        continue;
+                    }
+                    long pid = Long.parseLong(parts[0]);
+                    killed += ProcessHandle.of(pid)
+                            .filter(handle -> handle.info().startInstant()
+                                    .map(start -> start.toString().equals(parts[1])).orElse(false))
+                            .map(SessionProcessRegistry::killTree).orElse(0);
+                }
+                if (killed > 0) {
+                    processesKilled.addAndGet(killed);
+                    logger.warn("Killed {} processes leaked by a previous run (JVM {})", killed, ownerPid);
+                }
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Could not clean up processes from previous runs: {}", e.getMessage());
+        }
+    }
+
+    private final class TrackedSession {
+        private final long driverPid;
+        private final Set<Long> browserPids;
+        private final Map<Long, String> startTimes = new ConcurrentHashMap<>();
+        private volatile Thread owner;
+        private volatile Runnable onOrphan;
+        private volatile long closedAt;
+
+        private TrackedSession(long driverPid, Set<Long> browserPids) {
+            this.driverPid = driverPid;
+            this.browserPids = browserPids;
+            if (driverPid > 0) {
+                recordStartTime(driverPid);
+            }
+            browserPids.forEach(this::recordStartTime);
+        }
+
+        private void recordStartTime(long pid) {
+            ProcessHandle.of(pid).flatMap(handle -> handle.info().startInstant())
+                    .map(Instant::toString)
+                    .ifPresent(start -> startTimes.put(pid, start));
+        }
+
+        /**
+         * Whether the handle is still the process recorded for this session and not a reused PID
+         */
+        private boolean isSameProcess(ProcessHandle handle) {
+            String recorded = startTimes.get(handle.pid());
+            return recorded == null || handle.info().startInstant().map(Instant::toString)
+                    .map(recorded::equals).orElse(true);
+        }
+    }
+
+    /**
+     * Immutable snapshot of session process metrics
+     */
+    public static final class Stats {
+        private final long sessionsTracked;
+        private final long orphanedSessions;
+        private final long uncleanQuits;
+        private final long strayDrivers;
+        private final long processesKilled;
+        private final int liveSessions;
+
+        private Stats(long sessionsTracked, long orphanedSessions, long uncleanQuits, long strayDrivers,
+                      long processesKilled, int liveSessions) {
+            this.sessionsTracked = sessionsTracked;
+            this.orphanedSessions = orphanedSessions;
+            this.uncleanQuits = uncleanQuits;
+            this.strayDrivers = strayDrivers;
+            this.processesKilled = processesKilled;
+            this.liveSessions = liveSessions;
+        }
+
+        public long getSessionsTracked() {
+            return sessionsTracked;
+        }
+
+        /**
+         * Sessions whose test thread died without quitting them
+         */
+        public long getOrphanedSessions() {
+            return orphanedSessions;
+        }
+
+        /**
+         * Sessions whose processes were still running after quit
+         */
+        public long getUncleanQuits() {
+            return uncleanQuits;
+        }
+
+        /**
+         * Driver processes that belonged to no session
+         */
+        public long getStrayDrivers() {
+            return strayDrivers;
+        }
+
+        public long getLeakedSessions() {
+            return orphanedSessions + uncleanQuits + strayDrivers;
+        }
+
+        public long getProcessesKilled() {
+            return processesKilled;
+        }
+
+        public int getLiveSessions() {
+            return liveSessions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("tracked=%d, leaked=%d (orphaned=%d, uncleanQuit=%d, stray=%d), killed=%d, live=%d",
+                    sessionsTracked, getLeakedSessions(), orphanedSessions, uncleanQuits, strayDrivers,
+                    processesKilled, liveSessions);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the cost of each session reset strategy with the cost of quitting and starting a fresh session,
+ * using the configured browser and options. Each strategy runs against a session that was dirtied with a
+ * cookie, storage entries and an extra tab, and the report states which of them survived the reset.
+ * Usage: SessionResetBenchmark [iterations]
+ */
+public class SessionResetBenchmark {
+    private static final Logger logger = LogManager.getLogger(SessionResetBenchmark.class);
+    private static final String MARKER = "session-reset-benchmark";
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        ConfigManager config = ConfigManager.getInstance();
+        String browser = config.getBrowser().toLowerCase();
+        String url = config.getBaseUrl();
+
+        List<String> report = new ArrayList<>();
+        try {
+            double freshMillis = benchmarkFreshSession(browser, iterations);
+            report.add(String.format("%-32s %10.1f ms  %8s  %s", "quit + new session", freshMillis, "1.00x", "-"));
+
+            List<SessionResetStrategy> strategies = new ArrayList<>(SessionResetStrategies.all());
+            strategies.add(DriverManager.getResetStrategy());
+            for (SessionResetStrategy strategy : strategies) {
+                WebDriver driver = DriverManager.newSession(browser);
+                try {
+                    long[] samples = new long[iterations];
+                    String leftovers = "";
+                    for (int i = 0; i < iterations; i++) {
+                        dirty(driver, url);
+                        long start = System.nanoTime();
+                        strategy.reset(driver);
+                        samples[i] = System.nanoTime() - start;
+                        leftovers = leftovers(driver, url);
+                    }
+                    double resetMillis = median(samples);
+                    report.add(String.format("%-32s %10.1f ms  %7.2fx  %s", strategy.getName(), resetMillis,
+                            resetMillis / freshMillis, leftovers.isEmpty() ? "clean" : "left " + leftovers));
+                } finally {
+                    DriverManager.disposeDriver(driver);
+                }
+            }
+        } finally {
+            DriverManager.shutdownPool();
+        }
+
+        logger.info("Session reset benchmark for {} ({} iterations, median):", browser, iterations);
+        logger.info(String.format("%-32s %13s  %8s  %s", "strategy", "cost", "vs fresh", "state after reset"));
+        report.forEach(logger::info);
+    }
+
+    private static double benchmarkFreshSession(String browser, int iterations) {
+        // Warm up driver resolution so it is not charged to the first sample
+        DriverManager.disposeDriver(DriverManager.newSession(browser));
+
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            DriverManager.disposeDriver(DriverManager.newSession(browser));
+            samples[i] = System.nanoTime() - start;
+        }
+        return median(samples);
+    }
+
+    /**
+     * Leave a cookie, storage entries and an extra tab behind, as a test would
+     */
+    private static void dirty(WebDriver driver, String url) {
+        driver.get(url);
+        driver.manage().addCookie(new Cookie(MARKER, "1"));
+        ((JavascriptExecutor) driver).executeScript(
+                "localStorage.setItem(arguments[0], '1'); sessionStorage.setItem(arguments[0], '1');", MARKER);
+        String primary = driver.getWindowHandle();
+        driver.switchTo().newWindow(WindowType.TAB);
+        driver.switchTo().window(primary);
+    }
+
+    /**
+     * Names of the state kinds that are still present after a reset
+     */
+    private static String leftovers(WebDriver driver, String url) {
+        List<String> found = new ArrayList<>();
+        if (driver.getWindowHandles().size() > 1) {
+            found.add("windows");
+        }
+        if (!driver.getCurrentUrl().startsWith("about:blank")) {
+            found.add("page");
+        }
+        driver.get(url);
+        if (driver.manage().getCookieNamed(MARKER) != null) {
+            found.add("cookies");
+        }
+        Object storage = ((JavascriptExecutor) driver).executeScript(
+                "return localStorage.getItem(arguments[0]) !== null || sessionStorage.getItem(arguments[0]) !== null;",
+                MARKER);
+        if (Boolean.TRUE.equals(storage)) {
+            found.add("storage");
+        }
+        return String.join(",", found);
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        double value = sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+        return value / 1_000_000.0;
+    }
+}
@@ -0,0 +1,195 @@
+package com.automation.framework.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Built-in {@link SessionResetStrategy} implementations and the parser for the
+ * driver.session.reset.strategy setting (a comma separated list such as "windows,storage,cookies,blank").
+ * Composite strategies run their steps in the listed order, so storage must come before blank:
+ * storage is cleared for the origin of the page that is currently loaded.
+ */
+public final class SessionResetStrategies {
+    private static final Logger logger = LogManager.getLogger(SessionResetStrategies.class);
+
+    public static final String DEFAULT = "windows,storage,cookies,blank";
+
+    private static final String CLEAR_WEB_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}" +
+            "if (!window.indexedDB || !indexedDB.databases) { done(); return; }" +
+            "indexedDB.databases().then(function (dbs) {" +
+            "  return Promise.all(dbs.map(function (db) {" +
+            "    return new Promise(function (resolve) {" +
+            "      var request = indexedDB.deleteDatabase(db.name);" +
+            "      request.onsuccess = request.onerror = request.onblocked = resolve;" +
+            "    });" +
+            "  }));" +
+            "}).then(function () { done(); }, function () { done(); });";
+
+    private static final String CDP_STORAGE_TYPES =
+            "local_storage,indexeddb,websql,cache_storage,service_workers,file_systems";
+
+    private SessionResetStrategies() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Delete cookies. Chromium drops cookies for every domain through CDP, other browsers only
+     * for the domain of the current page.
+     */
+    public static SessionResetStrategy cookies() {
+        return new NamedStrategy("cookies") {
+            @Override
+            public void reset(WebDriver driver) {
+                if (driver instanceof HasCdp) {
+                    ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                } else {
+                    driver.manage().deleteAllCookies();
+                }
+            }
+        };
+    }
+
+    /**
+     * Clear localStorage, sessionStorage and IndexedDB of the current origin. Chromium uses
+     * CDP Storage.clearDataForOrigin, which also covers cache storage and service workers.
+     */
+    public static SessionResetStrategy storage() {
+        return new NamedStrategy("storage") {
+            @Override
+            public void reset(WebDriver driver) {
+                if (!(driver instanceof JavascriptExecutor)) {
+                    return;
+                }
+                JavascriptExecutor js = (JavascriptExecutor) driver;
+                if (driver instanceof HasCdp) {
+                    Object origin = js.executeScript("return window.location.origin;");
+                    if (origin instanceof String && ((String) origin).startsWith("http")) {
+                        ((HasCdp) driver).executeCdpCommand("Storage.clearDataForOrigin",
+                                Map.of("origin", origin, "storageTypes", CDP_STORAGE_TYPES));
+                    }
+                    // sessionStorage is not covered by clearDataForOrigin
+                    js.executeScript(CLEAR_WEB_STORAGE_SCRIPT);
+                } else {
+                    js.executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+                }
+            }
+        };
+    }
+
+    /**
+     * Close every window except the first one and switch back to it
+     */
+    public static SessionResetStrategy windows() {
+        return new NamedStrategy("windows") {
+            @Override
+            public void reset(WebDriver driver) {
+                Set<String> handles = driver.getWindowHandles();
+                String primary = handles.iterator().next();
+                for (String handle : handles) {
+                    if (!handle.equals(primary)) {
+                        driver.switchTo().window(handle).close();
+                    }
+                }
+                driver.switchTo().window(primary);
+            }
+        };
+    }
+
+    /**
+     * Navigate to about:blank so the next test does not see the previous page
+     */
+    public static SessionResetStrategy blank() {
+        return new NamedStrategy("blank") {
+            @Override
+            public void reset(WebDriver driver) {
+                driver.get("about:blank");
+            }
+        };
+    }
+
+    /**
+     * Run the given strategies in order
+     */
+    public static SessionResetStrategy composite(List<SessionResetStrategy> steps) {
+        List<SessionResetStrategy> copy = List.copyOf(steps);
+        String name = copy.stream().map(SessionResetStrategy::getName).collect(Collectors.joining(","));
+        return new NamedStrategy(name.isEmpty() ? "none" : name) {
+            @Override
+            public void reset(WebDriver driver) {
+                for (SessionResetStrategy step : copy) {
+                    step.reset(driver);
+                }
+            }
+        };
+    }
+
+    /**
+     * Parse a comma separated list of strategy names; unknown names are ignored with a warning
+     */
+    public static SessionResetStrategy parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            spec = DEFAULT;
+        }
+        List<SessionResetStrategy> steps = new ArrayList<>();
+        for (String name : spec.split(",")) {
+            SessionResetStrategy step = byName(name.trim().toLowerCase());
+            if (step != null) {
+                steps.add(step);
+            }
+        }
+        return steps.size() == 1 ? steps.get(0) : composite(steps);
+    }
+
+    /**
+     * Every single-step strategy, used by the reset benchmark
+     */
+    public static List<SessionResetStrategy> all() {
+        return List.of(windows(), storage(), cookies(), blank());
+    }
+
+    private static SessionResetStrategy byName(String name) {
+        return switch (name) {
+            case "cookies" -> cookies();
+            case "storage" -> storage();
+            case "windows" -> windows();
+            case "blank" -> blank();
+            case "none", "" -> null;
+            default -> {
+                logger.warn("Unknown session reset strategy: {}", name);
+                yield null;
+            }
+        };
+    }
+
+    private abstract static class NamedStrategy implements SessionResetStrategy {
+        private final String name;
+
+        private NamedStrategy(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
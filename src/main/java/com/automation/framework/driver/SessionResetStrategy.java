@@ -0,0 +1,21 @@
+package com.automation.framework.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Wipes browser state so a live session can be handed to the next test instead of being quit and recreated.
+ * Implementations throw when the session could not be reset; callers should then discard it.
+ * Built-in strategies are available from {@link SessionResetStrategies}.
+ */
+public interface SessionResetStrategy {
+
+    /**
+     * Short name used in configuration and logs, e.g. cookies or storage
+     */
+    String getName();
+
+    /**
+     * Reset the session state covered by this strategy
+     */
+    void reset(WebDriver driver);
+}
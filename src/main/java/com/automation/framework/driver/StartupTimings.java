@@ -0,0 +1,177 @@
+package com.automation.framework.driver;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-browser latency histograms for each phase of starting a driver session.
+ * Samples are kept in memory (bounded per phase) and summarized as p50/p95/p99 on demand.
+ */
+public class StartupTimings {
+    private static final int MAX_SAMPLES = 10_000;
+
+    /**
+     * Phases of DriverManager's session startup, in execution order
+     */
+    public enum Phase {
+        CONFIGURE_WDM("configureWdm"),
+        OFFLINE_MODE("offlineMode"),
+        RESOLUTION("resolution"),
+        SPAWN("spawn"),
+        HANDSHAKE("handshake"),
+        CONFIGURE_DRIVER("configureDriver"),
+        TOTAL("total");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Map<String, Map<Phase, Histogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Run the task and record its duration, also when it fails
+     */
+    public <T> T time(String browser, Phase phase, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            record(browser, phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Run the task and record its duration, also when it fails
+     */
+    public void time(String browser, Phase phase, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            record(browser, phase, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String browser, Phase phase, long nanos) {
+        histograms.computeIfAbsent(browser, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, k -> new Histogram())
+                .add(nanos);
+    }
+
+    /**
+     * Summary of every recorded phase for the browser, in phase order
+     */
+    public Map<Phase, PhaseStats> getStats(String browser) {
+        Map<Phase, PhaseStats> stats = new EnumMap<>(Phase.class);
+        Map<Phase, Histogram> phases = histograms.get(browser);
+        if (phases != null) {
+            phases.forEach((phase, histogram) -> stats.put(phase, histogram.snapshot()));
+        }
+        return stats;
+    }
+
+    /**
+     * Browsers with at least one recorded startup
+     */
+    public List<String> getBrowsers() {
+        return new ArrayList<>(histograms.keySet());
+    }
+
+    /**
+     * One line per browser and phase, slowest phases easy to spot by p95
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        for (String browser : getBrowsers()) {
+            getStats(browser).forEach((phase, stats) -> report.append(System.lineSeparator())
+                    .append(String.format("  %-8s %-16s %s", browser, phase.getLabel(), stats)));
+        }
+        return report.toString();
+    }
+
+    private static final class Histogram {
+        private final Deque<Long> samples = new ArrayDeque<>();
+
+        private synchronized void add(long nanos) {
+            // Keep the most recent samples once full
+            if (samples.size() >= MAX_SAMPLES) {
+                samples.pollFirst();
+            }
+            samples.addLast(nanos);
+        }
+
+        private synchronized PhaseStats snapshot() {
+            long[] sorted = samples.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return new PhaseStats(sorted.length, percentile(sorted, 50), percentile(sorted, 95),
+                    percentile(sorted, 99), sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+        }
+
+        private static long percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+
+    /**
+     * Immutable latency summary of one phase
+     */
+    public static final class PhaseStats {
+        private final int count;
+        private final long p50Nanos;
+        private final long p95Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        private PhaseStats(int count, long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos) {
+            this.count = count;
+            this.p50Nanos = p50Nanos;
+            this.p95Nanos = p95Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getP50Millis() {
+            return p50Nanos / 1_000_000.0;
+        }
+
+        public double getP95Millis() {
+            return p95Nanos / 1_000_000.0;
+        }
+
+        public double getP99Millis() {
+            return p99Nanos / 1_000_000.0;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d, p50=%.1fms, p95=%.1fms, p99=%.1fms, max=%.1fms",
+                    count, getP50Millis(), getP95Millis(), getP99Millis(), getMaxMillis());
+        }
+    }
+}
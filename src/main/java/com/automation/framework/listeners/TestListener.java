@@ -1,7 +1,11 @@
 package com.automation.framework.listeners;
 
 import com.automation.framework.config.ConfigManager;
+import com.automation.framework.driver.CapabilitiesRegistry;
+import com.automation.framework.driver.DriverManager;
+import com.automation.framework.pages.CachingElementLocatorFactory;
 import com.automation.framework.reporting.ExtentReportsManager;
+import com.automation.framework.utils.ConnectivityProbe;
 import com.automation.framework.utils.ScreenshotUtils;
 import com.relevantcodes.extentreports.LogStatus;
 import org.apache.logging.log4j.LogManager;
@@ -24,12 +28,32 @@ public class TestListener implements ITestListener, ISuiteListener {
     @Override
     public void onStart(ISuite suite) {
         logger.info("=== Test Suite Started: {} ===", suite.getName());
+        // Warm the connectivity probe so driver resolution never waits on the network
+        ConnectivityProbe.getInstance();
+        // Compile the browser options template once for the whole suite
+        CapabilitiesRegistry.precompile(config.getBrowser().toLowerCase());
+        // Start the first browser session while TestNG is still preparing the suite
+        DriverManager.prefetchDriver();
         // ExtentReports initialization handled by ExtentReportsManager
     }
 
     @Override
     public void onFinish(ISuite suite) {
         logger.info("=== Test Suite Finished: {} ===", suite.getName());
+        // Quit warm browser sessions kept by the driver pool and provisioner
+        DriverManager.shutdownPool();
+        if (config.isAdmissionControlEnabled()) {
+            logger.info("Session admission: {}", DriverManager.getAdmissionStats());
+        }
+        logger.info("Session processes: {}", DriverManager.getProcessStats());
+        if (config.isRequestBlockingEnabled()) {
+            logger.info("Request filter: {}", DriverManager.getBlockedRequestTotals());
+        }
+        logger.info("Page element cache: {}", CachingElementLocatorFactory.getStats());
+        logger.info("Driver startup latency by phase:{}", DriverManager.getStartupTimings().report());
+        if (config.isDriverHttpMetricsEnabled()) {
+            logger.info("WebDriver command transport:{}", DriverManager.getCommandTransport().report());
+        }
         // Flush ExtentReports
         if (config.isExtentReportsEnabled()) {
             ExtentReportsManager.flush();
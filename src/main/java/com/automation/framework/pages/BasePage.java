@@ -2,6 +2,10 @@ package com.automation.framework.pages;
 
 import com.automation.framework.config.ConfigManager;
 import com.automation.framework.driver.DriverManager;
+import com.automation.framework.utils.DomCondition;
+import com.automation.framework.utils.ElementSnapshot;
+import com.automation.framework.utils.ElementState;
+import com.automation.framework.utils.FormFiller;
 import com.automation.framework.utils.WaitUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -13,7 +17,10 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Base Page class containing common page operations and utilities
@@ -25,6 +32,7 @@ public abstract class BasePage {
     protected final Actions actions;
     protected final JavascriptExecutor jsExecutor;
     protected final ConfigManager config;
+    private final CachingElementLocatorFactory elementLocators;
 
     public BasePage() {
         this.driver = DriverManager.getDriver();
@@ -32,7 +40,8 @@ public abstract class BasePage {
         this.actions = new Actions(driver);
         this.jsExecutor = (JavascriptExecutor) driver;
         this.config = ConfigManager.getInstance();
-        PageFactory.initElements(driver, this);
+        this.elementLocators = new CachingElementLocatorFactory(driver, config.isElementCacheEnabled());
+        PageFactory.initElements(new CachingFieldDecorator(elementLocators), this);
     }
 
     /**
@@ -40,13 +49,22 @@ public abstract class BasePage {
      */
     public abstract boolean isPageLoaded();
 
+    /**
+     * Condition that makes this page usable after a navigation. Pages override it with a key element,
+     * so navigations return as soon as the page can be used under the eager and none load strategies.
+     */
+    protected Function<WebDriver, ?> readinessCondition() {
+        return WaitUtils.documentReady();
+    }
+
     /**
      * Navigate to URL
      */
     public void navigateTo(String url) {
         logger.info("Navigating to URL: {}", url);
         driver.get(url);
-        waitForPageLoad();
+        elementLocators.invalidateAll();
+        waitForPageReady();
     }
 
     /**
@@ -67,7 +85,7 @@ public abstract class BasePage {
      * Click element
      */
     protected void click(WebElement element) {
-        waitUtils.waitForElementToBeClickable(element);
+        waitUtils.waitForAllOf(DomCondition.clickable(element));
         element.click();
         logger.debug("Clicked element: {}", element);
     }
@@ -76,7 +94,7 @@ public abstract class BasePage {
      * Click element by locator
      */
     protected void click(By locator) {
-        WebElement element = waitUtils.waitForElementToBeClickable(locator);
+        WebElement element = waitUtils.waitForAllOf(DomCondition.clickable(locator)).getElement(0);
         element.click();
         logger.debug("Clicked element: {}", locator);
     }
@@ -101,6 +119,20 @@ public abstract class BasePage {
         logger.debug("Typed '{}' into element: {}", text, locator);
     }
 
+    /**
+     * Start a batch of form fields that is filled in one script call
+     */
+    protected FormFiller form() {
+        return new FormFiller(driver, waitUtils);
+    }
+
+    /**
+     * Fill the fields with the values in one script call, in the map's iteration order
+     */
+    protected void fillForm(Map<By, String> values) {
+        form().setAll(values).fill();
+    }
+
     /**
      * Get text from element
      */
@@ -145,7 +177,7 @@ public abstract class BasePage {
      */
     protected boolean isDisplayed(By locator) {
         try {
-            return driver.findElement(locator).isDisplayed();
+            return waitUtils.isDisplayedNow(locator);
         } catch (Exception e) {
             return false;
         }
@@ -173,6 +205,36 @@ public abstract class BasePage {
         }
     }
 
+    /**
+     * Read text, state and position of every element matching the locators in one script call
+     */
+    protected List<ElementState> snapshot(By... locators) {
+        return snapshot(List.of(), locators);
+    }
+
+    /**
+     * Read text, the given attributes, state and position of every element matching the locators in one script call
+     */
+    protected List<ElementState> snapshot(List<String> attributes, By... locators) {
+        List<ElementState> states = ElementSnapshot.of(driver, attributes, locators);
+        logger.debug("Read state of {} elements matching {}", states.size(), Arrays.asList(locators));
+        return states;
+    }
+
+    /**
+     * Read text, state and position of the elements in one script call
+     */
+    protected List<ElementState> snapshot(List<WebElement> elements) {
+        return snapshot(elements, List.of());
+    }
+
+    /**
+     * Read text, the given attributes, state and position of the elements in one script call
+     */
+    protected List<ElementState> snapshot(List<WebElement> elements, List<String> attributes) {
+        return ElementSnapshot.of(driver, elements, attributes);
+    }
+
     /**
      * Wait for element to be visible
      */
@@ -261,6 +323,13 @@ public abstract class BasePage {
         return jsExecutor.executeScript(script, args);
     }
 
+    /**
+     * Forget the elements cached for this page's fields, after the page re-rendered them without a navigation
+     */
+    protected void invalidateElementCache() {
+        elementLocators.invalidateAll();
+    }
+
     /**
      * Wait for page load to complete
      */
@@ -268,13 +337,21 @@ public abstract class BasePage {
         waitUtils.waitForPageLoad();
     }
 
+    /**
+     * Wait for the page's readiness condition
+     */
+    protected void waitForPageReady() {
+        waitUtils.waitForCondition(readinessCondition());
+    }
+
     /**
      * Refresh the page
      */
     protected void refreshPage() {
         logger.info("Refreshing page");
         driver.navigate().refresh();
-        waitForPageLoad();
+        elementLocators.invalidateAll();
+        waitForPageReady();
     }
 
     /**
@@ -283,7 +360,8 @@ public abstract class BasePage {
     protected void goBack() {
         logger.info("Navigating back");
         driver.navigate().back();
-        waitForPageLoad();
+        elementLocators.invalidateAll();
+        waitForPageReady();
     }
 
     /**
@@ -292,6 +370,7 @@ public abstract class BasePage {
     protected void goForward() {
         logger.info("Navigating forward");
         driver.navigate().forward();
-        waitForPageLoad();
+        elementLocators.invalidateAll();
+        waitForPageReady();
     }
 }
\ No newline at end of file
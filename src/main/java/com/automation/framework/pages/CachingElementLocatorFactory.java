@@ -0,0 +1,180 @@
+package com.automation.framework.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Element locators for the fields of one page object instance that remember the element they found,
+ * so repeated use of a field costs no findElement round trip. A cached element is dropped and looked up
+ * again when it turns out to be stale (see CachingFieldDecorator) or when the page navigates.
+ * Fields marked @Uncached and lists of elements are looked up on every use.
+ */
+public class CachingElementLocatorFactory implements ElementLocatorFactory {
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong staleRefinds = new AtomicLong();
+    private static final AtomicLong uncachedLookups = new AtomicLong();
+
+    private final SearchContext searchContext;
+    private final boolean enabled;
+    private final List<CachingElementLocator> locators = new ArrayList<>();
+
+    /**
+     * @param enabled whether elements are cached at all; when false every lookup goes to the driver
+     */
+    public CachingElementLocatorFactory(SearchContext searchContext, boolean enabled) {
+        this.searchContext = searchContext;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        CachingElementLocator locator = new CachingElementLocator(searchContext, new Annotations(field).buildBy(),
+                enabled && !field.isAnnotationPresent(Uncached.class));
+        locators.add(locator);
+        return locator;
+    }
+
+    /**
+     * Forget every cached element, e.g. after a navigation replaced the document
+     */
+    public void invalidateAll() {
+        locators.forEach(CachingElementLocator::invalidate);
+    }
+
+    /**
+     * Get a snapshot of the cache metrics across all page objects
+     */
+    public static Stats getStats() {
+        return new Stats(hits.get(), misses.get(), staleRefinds.get(), uncachedLookups.get());
+    }
+
+    /**
+     * Locator of one field; page objects are used by one test thread, so the cached element is a plain field
+     */
+    static final class CachingElementLocator implements ElementLocator {
+        private final SearchContext searchContext;
+        private final By by;
+        private final boolean cached;
+        private WebElement element;
+
+        private CachingElementLocator(SearchContext searchContext, By by, boolean cached) {
+            this.searchContext = searchContext;
+            this.by = by;
+            this.cached = cached;
+        }
+
+        @Override
+        public WebElement findElement() {
+            if (!cached) {
+                uncachedLookups.incrementAndGet();
+                return searchContext.findElement(by);
+            }
+            if (element != null) {
+                hits.incrementAndGet();
+                return element;
+            }
+            misses.incrementAndGet();
+            element = searchContext.findElement(by);
+            return element;
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            uncachedLookups.incrementAndGet();
+            return searchContext.findElements(by);
+        }
+
+        /**
+         * Look the element up again after the cached one went stale
+         */
+        WebElement refind() {
+            if (cached) {
+                staleRefinds.incrementAndGet();
+                element = null;
+            }
+            return findElement();
+        }
+
+        /**
+         * Look the element up regardless of the cache, keeping the result for later uses
+         */
+        WebElement findFresh() {
+            element = null;
+            return findElement();
+        }
+
+        boolean isCached() {
+            return cached;
+        }
+
+        /**
+         * Element found last, without looking it up
+         */
+        WebElement peek() {
+            return element;
+        }
+
+        void invalidate() {
+            element = null;
+        }
+
+        @Override
+        public String toString() {
+            return (cached ? "Caching locator for " : "Locator for ") + by;
+        }
+    }
+
+    /**
+     * Immutable snapshot of element cache metrics
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long staleRefinds;
+        private final long uncachedLookups;
+
+        private Stats(long hits, long misses, long staleRefinds, long uncachedLookups) {
+            this.hits = hits;
+            this.misses = misses;
+            this.staleRefinds = staleRefinds;
+            this.uncachedLookups = uncachedLookups;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getStaleRefinds() {
+            return staleRefinds;
+        }
+
+        public long getUncachedLookups() {
+            return uncachedLookups;
+        }
+
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, hitRate=%.1f%%, staleRefinds=%d, uncachedLookups=%d",
+                    hits, misses, getHitRate() * 100, staleRefinds, uncachedLookups);
+        }
+    }
+}
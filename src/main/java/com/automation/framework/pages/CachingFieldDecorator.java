@@ -0,0 +1,70 @@
+package com.automation.framework.pages;
+
+import com.automation.framework.pages.CachingElementLocatorFactory.CachingElementLocator;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Field decorator whose element proxies use the cached element of a CachingElementLocatorFactory
+ * and, when a call fails because that element went stale, look it up again and repeat the call once
+ */
+public class CachingFieldDecorator extends DefaultFieldDecorator {
+
+    public CachingFieldDecorator(CachingElementLocatorFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class},
+                new StaleRetryingHandler((CachingElementLocator) locator));
+    }
+
+    private static final class StaleRetryingHandler implements InvocationHandler {
+        private final CachingElementLocator locator;
+
+        private StaleRetryingHandler(CachingElementLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "toString":
+                    // Logging a field must not cost a lookup
+                    WebElement known = locator.peek();
+                    return known != null ? known.toString() : "Proxy element for: " + locator;
+                case "getWrappedElement":
+                    // The element leaves the proxy (script arguments, Actions), where a stale reference
+                    // could not be retried, so hand out a freshly found one
+                    return locator.isCached() ? locator.findFresh() : locator.findElement();
+                default:
+                    break;
+            }
+
+            WebElement element = locator.findElement();
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException) || !locator.isCached()) {
+                    throw e.getCause();
+                }
+            }
+            try {
+                return method.invoke(locator.refind(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package com.automation.framework.pages;
 
+import com.automation.framework.utils.CompositeCondition;
+import com.automation.framework.utils.DomCondition;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Page Object Model for Login Page
  */
 public class LoginPage extends BasePage {
+    private static final By USERNAME = By.id("user-name");
+    private static final By PASSWORD = By.id("password");
+    private static final By INVENTORY_CONTAINER = By.id("inventory_container");
+    private static final By ERROR_MESSAGE = By.xpath("//h3[@data-test='error']");
+    private static final By ERROR_BUTTON = By.xpath("//button[@class='error-button']");
+    private static final int LOGIN_SUCCEEDED = 0;
+    private static final int LOGIN_FAILED = 1;
 
     @FindBy(id = "user-name")
     private WebElement usernameField;
@@ -18,24 +33,35 @@ public class LoginPage extends BasePage {
         return usernameField != null && usernameField.isDisplayed();
     }
 
-    @FindBy(id = "password")
-    private WebElement passwordField;
+    @Override
+    protected Function<WebDriver, ?> readinessCondition() {
+        return ExpectedConditions.visibilityOfElementLocated(USERNAME);
+    }
 
     @FindBy(id = "login-button")
     private WebElement loginButton;
 
     public LoginPage navigateToSwagLabs() {
         navigateTo("https://www.saucedemo.com/v1/index.html");
-        waitForPageLoad();
         return this;
     }
 
     public void enterUsername(String username) {
-        usernameField.sendKeys(username);
+        form().set(USERNAME, username).fill();
     }
 
     public void enterPassword(String password) {
-        passwordField.sendKeys(password);
+        form().set(PASSWORD, password).fill();
+    }
+
+    /**
+     * Fill username and password in one script call
+     */
+    public void enterCredentials(String username, String password) {
+        Map<By, String> credentials = new LinkedHashMap<>();
+        credentials.put(USERNAME, username);
+        credentials.put(PASSWORD, password);
+        fillForm(credentials);
     }
 
     public void clickLoginButton() {
@@ -43,29 +69,33 @@ public class LoginPage extends BasePage {
     }
 
     public boolean isLoginSuccessful() {
-        try {
-            driver.findElement(By.id("inventory_container"));
-            return true;
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return awaitLoginOutcome() == LOGIN_SUCCEEDED;
     }
 
     public String getLoginErrorMessage() {
-        try {
-            WebElement errorMessage = driver.findElement(By.xpath("//button[@class='error-button']"));
-            return errorMessage.getText();
-        } catch (NoSuchElementException e) {
-            return "";
-        }
+        return waitUtils.findWithin(ERROR_BUTTON, waitUtils.getPresenceCheckBudget()).map(WebElement::getText).orElse("");
     }
     
     public boolean isLoginErrorDisplayed() {
-        try {
-            WebElement errorMessage = driver.findElement(By.xpath("//h3[@data-test='error']"));
-            return errorMessage.isDisplayed();
-        } catch (NoSuchElementException e) {
-            return false;
-        }
+        return awaitLoginOutcome() == LOGIN_FAILED;
+    }
+
+    /**
+     * Wait for whichever outcome of a login shows up first, so neither check waits for the other outcome.
+     * Returns -1 when neither shows up within the explicit timeout.
+     */
+    private int awaitLoginOutcome() {
+        return waitUtils.checkWithin(CompositeCondition.firstOf(DomCondition.present(INVENTORY_CONTAINER),
+                        DomCondition.visible(ERROR_MESSAGE)), outcomeTimeout())
+                .map(CompositeCondition.Result::getFirstHeld)
+                .orElse(-1);
+    }
+
+    /**
+     * Outcomes of a login are positive results that may take as long as the server does, so they get the
+     * explicit timeout rather than the short presence check budget meant for absences
+     */
+    private Duration outcomeTimeout() {
+        return Duration.ofSeconds(config.getExplicitTimeout());
     }
 }
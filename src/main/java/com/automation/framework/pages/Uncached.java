@@ -0,0 +1,15 @@
+package com.automation.framework.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a page object field whose element is looked up on every use instead of being cached,
+ * for elements the page replaces or re-renders without invalidating the old reference
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Uncached {
+}
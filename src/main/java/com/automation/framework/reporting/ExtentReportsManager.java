@@ -1,5 +1,6 @@
 package com.automation.framework.reporting;
 
+import com.automation.framework.context.TestContext;
 import com.relevantcodes.extentreports.ExtentReports;
 import com.relevantcodes.extentreports.ExtentTest;
 import com.relevantcodes.extentreports.LogStatus;
@@ -11,8 +12,6 @@ import org.apache.logging.log4j.Logger;
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * ExtentReports 2.0 Manager Class
@@ -22,7 +21,6 @@ public class ExtentReportsManager {
     
     private static final Logger logger = LogManager.getLogger(ExtentReportsManager.class);
     private static ExtentReports extent;
-    private static Map<Long, ExtentTest> testMap = new HashMap<>();
     private static String reportPath;
     private static String screenshotPath;
     
@@ -145,28 +143,29 @@ public class ExtentReportsManager {
      */
     public static synchronized ExtentTest startTest(String testName, String description) {
         ExtentTest test = getInstance().startTest(testName, description);
-        testMap.put(Thread.currentThread().getId(), test);
+        TestContext.current().setExtentTest(test);
         logger.debug("Started test: {} - {}", testName, description);
         return test;
     }
     
     /**
-     * Get current test instance for the thread
+     * Get current test instance from the test context
      * @return Current ExtentTest instance
      */
-    public static synchronized ExtentTest getTest() {
-        return testMap.get(Thread.currentThread().getId());
+    public static ExtentTest getTest() {
+        TestContext context = TestContext.peek();
+        return context != null ? context.getExtentTest() : null;
     }
     
     /**
      * End current test
      */
     public static synchronized void endTest() {
-        ExtentTest test = testMap.get(Thread.currentThread().getId());
+        ExtentTest test = getTest();
         if (test != null) {
             getInstance().endTest(test);
-            testMap.remove(Thread.currentThread().getId());
-            logger.debug("Ended test for thread: {}", Thread.currentThread().getId());
+            TestContext.current().setExtentTest(null);
+            logger.debug("Ended test: {}", test.getTest().getName());
         }
     }
     
@@ -0,0 +1,39 @@
+package com.automation.framework.runner;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.TestNG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line entry point for running TestNG suites with the configured execution mode.
+ * Surefire cannot install a TestNG executor factory, so the virtual thread mode is run through this class.
+ * Usage: TestRunner [suite.xml ...] (defaults to the suite named by the suite.file system property)
+ */
+public class TestRunner {
+    private static final Logger logger = LogManager.getLogger(TestRunner.class);
+    private static final String SUITE_DIRECTORY = "src/test/resources/testng-suites/";
+
+    public static void main(String[] args) {
+        List<String> suites = new ArrayList<>(List.of(args));
+        if (suites.isEmpty()) {
+            suites.add(SUITE_DIRECTORY + System.getProperty("suite.file", "testng.xml"));
+        }
+
+        TestNG testNG = new TestNG();
+        testNG.setTestSuites(suites);
+        testNG.setUseDefaultListeners(false);
+
+        String mode = ConfigManager.getInstance().getExecutionMode();
+        if ("virtual".equalsIgnoreCase(mode)) {
+            testNG.setExecutorFactory(new VirtualThreadExecutorFactory());
+        }
+        logger.info("Running suites {} in {} execution mode", suites, mode);
+
+        testNG.run();
+        System.exit(testNG.getStatus());
+    }
+}
@@ -0,0 +1,109 @@
+package com.automation.framework.runner;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestNG executor factory that runs test methods on virtual threads.
+ * Test bodies spend nearly all their time blocked on WebDriver HTTP calls, so the number of concurrent
+ * tests is capped by the browser admission limit instead of by the suite's thread count. The virtual threads
+ * are pooled by TestNG's ThreadPoolExecutor, whose core size is that cap, so each worker runs many tests in
+ * turn. On a JVM without virtual threads the same cap is applied with platform daemon threads.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+    private static final Logger logger = LogManager.getLogger(VirtualThreadExecutorFactory.class);
+    private static final String THREAD_NAME_PREFIX = "test-worker-";
+
+    private final IExecutorFactory delegate = new DefaultThreadPoolExecutorFactory();
+    private final ThreadFactory threadFactory = createThreadFactory();
+    private final int maxConcurrency;
+
+    public VirtualThreadExecutorFactory() {
+        this(resolveMaxConcurrency(ConfigManager.getInstance()));
+    }
+
+    public VirtualThreadExecutorFactory(int maxConcurrency) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+                                                      IThreadWorkerFactory<ISuite> factory, int corePoolSize,
+                                                      int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                                      BlockingQueue<Runnable> workQueue, Comparator<ISuite> comparator) {
+        return delegate.newSuiteExecutor(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime,
+                unit, workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                                                           IThreadWorkerFactory<ITestNGMethod> factory,
+                                                           int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                                           TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                                           Comparator<ITestNGMethod> comparator) {
+        // Suite thread-count is ignored; the cap replaces it
+        ITestNGThreadPoolExecutor executor = delegate.newTestMethodExecutor(name, graph, factory, maxConcurrency,
+                maxConcurrency, keepAliveTime, unit, workQueue, comparator);
+        if (executor instanceof ThreadPoolExecutor) {
+            ((ThreadPoolExecutor) executor).setThreadFactory(threadFactory);
+        } else {
+            logger.warn("Unexpected TestNG executor {}, test methods stay on platform threads", executor.getClass().getName());
+        }
+        logger.info("Running test methods of '{}' with up to {} concurrent workers", name, maxConcurrency);
+        return executor;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Cap set by the browser admission limit when one is configured, otherwise by the virtual mode limit
+     */
+    static int resolveMaxConcurrency(ConfigManager config) {
+        if (config.isAdmissionControlEnabled() && config.getAdmissionMaxSessions() > 0) {
+            return config.getAdmissionMaxSessions();
+        }
+        return config.getVirtualMaxConcurrency();
+    }
+
+    /**
+     * Virtual thread factory when the runtime supports it (Java 21+), looked up reflectively so the
+     * framework still compiles and runs on Java 17
+     */
+    private static ThreadFactory createThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            Method factory = builderType.getMethod("factory");
+            logger.info("Test methods will run on virtual threads");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not available on Java {}, using platform threads",
+                    System.getProperty("java.version"));
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
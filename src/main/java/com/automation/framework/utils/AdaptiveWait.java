@@ -0,0 +1,151 @@
+package com.automation.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Drop-in replacement for WebDriverWait with adaptive polling. Polling starts tight and backs off
+ * exponentially up to a maximum interval; when the typical time-to-satisfy of the condition is known
+ * from WaitStats, the first poll is delayed until shortly before it is expected to hold.
+ */
+public class AdaptiveWait {
+    private static final Logger logger = LogManager.getLogger(AdaptiveWait.class);
+    // Conditions already reported for stalling in the implicit wait, so each is reported once per run
+    private static final Set<String> implicitWaitStalls = ConcurrentHashMap.newKeySet();
+    // Session-specific part of a WebElement's toString: "[[ChromeDriver: chrome on linux (id)] -> "
+    private static final Pattern SESSION_PREFIX = Pattern.compile("\\[\\[[^\\]]*\\]\\s*->\\s*");
+    // Observed state some ExpectedConditions append, e.g. ". Current title: ..."
+    private static final Pattern CURRENT_STATE = Pattern.compile("\\.\\s*Current .*$");
+    // Poll this early relative to the learned time, so a slightly faster page is not overslept
+    private static final double FIRST_POLL_RATIO = 0.8;
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final long initialPollMillis;
+    private final long maxPollMillis;
+    private final double backoff;
+    private final WaitStats stats;
+    private final Duration implicitWait;
+
+    /**
+     * @param implicitWait implicit wait configured on the session, used to detect conditions that stall in it
+     */
+    public AdaptiveWait(WebDriver driver, Duration timeout, long initialPollMillis, long maxPollMillis,
+                        double backoff, WaitStats stats, Duration implicitWait) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.implicitWait = implicitWait;
+        this.initialPollMillis = Math.max(1, initialPollMillis);
+        this.maxPollMillis = Math.max(this.initialPollMillis, maxPollMillis);
+        this.backoff = Math.max(1.0, backoff);
+        this.stats = stats;
+    }
+
+    /**
+     * Repeatedly apply the condition until it returns neither null nor false, like WebDriverWait.until.
+     * Conditions with a descriptive toString (ExpectedConditions) are learned; lambdas are not.
+     */
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        String key = keyOf(condition);
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        double typical = stats.getTypicalMillis(key);
+        long interval = initialPollMillis;
+        boolean firstPoll = true;
+        RuntimeException lastException = null;
+
+        while (true) {
+            long pollStart = System.nanoTime();
+            try {
+                T value = condition.apply(driver);
+                checkImplicitWaitStall(condition, pollStart);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    stats.record(key, elapsedMillis(start));
+                    return value;
+                }
+            } catch (NotFoundException e) {
+                checkImplicitWaitStall(condition, pollStart);
+                lastException = e;
+            }
+
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d second(s) with adaptive polling)",
+                        condition, timeout.getSeconds()), lastException);
+            }
+
+            long sleep;
+            if (firstPoll && typical > 0) {
+                // Skip the polls that would almost certainly fail
+                sleep = Math.max(initialPollMillis, Math.round(typical * FIRST_POLL_RATIO) - elapsedMillis(start));
+            } else {
+                sleep = interval;
+                interval = Math.min(maxPollMillis, Math.round(interval * backoff));
+            }
+            firstPoll = false;
+            sleep(Math.min(sleep, remaining));
+        }
+    }
+
+    /**
+     * Run a wait that polls by other means (e.g. in the browser) and learn its duration under the key
+     */
+    public <T> T measure(String key, Supplier<T> wait) {
+        long start = System.nanoTime();
+        T value = wait.get();
+        stats.record(key, elapsedMillis(start));
+        return value;
+    }
+
+    /**
+     * Stable key for a condition across runs, or null when it has no meaningful description
+     */
+    static String keyOf(Object condition) {
+        if (condition.getClass().isSynthetic()) {
+            return null;
+        }
+        String description = SESSION_PREFIX.matcher(condition.toString()).replaceAll("");
+        return CURRENT_STATE.matcher(description).replaceAll("");
+    }
+
+    /**
+     * A single evaluation that lasted as long as the implicit wait was spent looking for a missing element,
+     * so each poll of this explicit wait costs the whole implicit wait
+     */
+    private void checkImplicitWaitStall(Object condition, long pollStartNanos) {
+        if (implicitWait.isZero() || System.nanoTime() - pollStartNanos < implicitWait.toNanos()) {
+            return;
+        }
+        String description = String.valueOf(keyOf(condition) != null ? keyOf(condition) : condition);
+        if (implicitWaitStalls.add(description)) {
+            logger.warn("Explicit wait for {} is mixed with the {} s implicit wait: each poll blocked in the implicit wait. "
+                    + "Use zero-wait checks (WaitUtils.isPresentNow/isPresentWithin) or set test.timeout.implicit=0",
+                    description, implicitWait.getSeconds());
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+    }
+}
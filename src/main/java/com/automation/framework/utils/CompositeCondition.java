@@ -0,0 +1,190 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Several DOM conditions evaluated together in one executeScript per poll, instead of one or more
+ * WebDriver round trips per condition. Falls back to evaluating each condition through WebDriver
+ * when the driver cannot run scripts or a locator is not scriptable.
+ */
+public final class CompositeCondition implements ExpectedCondition<CompositeCondition.Result> {
+
+    private static final String EVALUATE_SCRIPT = DomCondition.CHECK_FUNCTIONS +
+            "var mode = arguments[0], conditions = arguments[1], held = [], elements = [];" +
+            "for (var i = 0; i < conditions.length; i++) {" +
+            "  var element = __check(conditions[i]);" +
+            "  held.push(element !== undefined);" +
+            "  elements.push(element === undefined ? null : element);" +
+            "  if (mode === 'first' && element !== undefined) break;" +
+            "}" +
+            "return {held: held, elements: elements};";
+
+    /**
+     * How the results of the conditions are combined
+     */
+    public enum Mode {
+        ALL("all"),
+        ANY("any"),
+        FIRST("first");
+
+        private final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Mode mode;
+    private final List<DomCondition> conditions;
+
+    private CompositeCondition(Mode mode, DomCondition... conditions) {
+        if (conditions.length == 0) {
+            throw new IllegalArgumentException("At least one condition is required");
+        }
+        this.mode = mode;
+        this.conditions = List.of(conditions);
+    }
+
+    /**
+     * Holds when every condition holds
+     */
+    public static CompositeCondition allOf(DomCondition... conditions) {
+        return new CompositeCondition(Mode.ALL, conditions);
+    }
+
+    /**
+     * Holds when at least one condition holds; the result tells which ones did
+     */
+    public static CompositeCondition anyOf(DomCondition... conditions) {
+        return new CompositeCondition(Mode.ANY, conditions);
+    }
+
+    /**
+     * Holds when a condition holds, checking them in order and stopping at the first that does
+     */
+    public static CompositeCondition firstOf(DomCondition... conditions) {
+        return new CompositeCondition(Mode.FIRST, conditions);
+    }
+
+    @Override
+    public Result apply(WebDriver driver) {
+        boolean scriptable = driver instanceof JavascriptExecutor
+                && conditions.stream().allMatch(DomCondition::isScriptable);
+        Result result;
+        try {
+            result = scriptable ? evaluateInPage((JavascriptExecutor) driver)
+                    : WaitUtils.withoutImplicitWait(driver, () -> evaluateEach(driver));
+        } catch (StaleElementReferenceException e) {
+            // An element condition whose element was replaced; it may hold on a later poll
+            return null;
+        }
+        return result.satisfies(mode) ? result : null;
+    }
+
+    private Result evaluateInPage(JavascriptExecutor js) {
+        List<Object> arguments = conditions.stream()
+                .map(DomCondition::scriptArguments)
+                .collect(Collectors.toList());
+        Map<?, ?> response = (Map<?, ?>) js.executeScript(EVALUATE_SCRIPT, mode.label, arguments);
+        List<?> held = (List<?>) response.get("held");
+        List<?> elements = (List<?>) response.get("elements");
+        boolean[] heldFlags = new boolean[conditions.size()];
+        WebElement[] matched = new WebElement[conditions.size()];
+        for (int i = 0; i < held.size(); i++) {
+            heldFlags[i] = Boolean.TRUE.equals(held.get(i));
+            matched[i] = elements.get(i) instanceof WebElement ? (WebElement) elements.get(i) : null;
+        }
+        return new Result(heldFlags, matched);
+    }
+
+    private Result evaluateEach(WebDriver driver) {
+        boolean[] held = new boolean[conditions.size()];
+        WebElement[] matched = new WebElement[conditions.size()];
+        for (int i = 0; i < conditions.size(); i++) {
+            Object value = conditions.get(i).toExpectedCondition().apply(driver);
+            held[i] = value != null;
+            matched[i] = value instanceof WebElement ? (WebElement) value : null;
+            if (held[i] && mode == Mode.FIRST) {
+                break;
+            }
+        }
+        return new Result(held, matched);
+    }
+
+    @Override
+    public String toString() {
+        return mode.label + " of " + conditions;
+    }
+
+    /**
+     * Immutable outcome of one evaluation: which conditions held and the elements they matched
+     */
+    public static final class Result {
+        private final boolean[] held;
+        private final WebElement[] elements;
+
+        Result(boolean[] held, WebElement[] elements) {
+            this.held = held;
+            this.elements = elements;
+        }
+
+        boolean satisfies(Mode mode) {
+            boolean any = false;
+            boolean all = true;
+            for (boolean condition : held) {
+                any |= condition;
+                all &= condition;
+            }
+            return mode == Mode.ALL ? all : any;
+        }
+
+        /**
+         * Whether the condition at the index held
+         */
+        public boolean held(int index) {
+            return held[index];
+        }
+
+        /**
+         * Index of the first condition that held, or -1
+         */
+        public int getFirstHeld() {
+            for (int i = 0; i < held.length; i++) {
+                if (held[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Element matched by the condition at the index, or null when it did not hold or matches no element
+         */
+        public WebElement getElement(int index) {
+            return elements[index];
+        }
+
+        /**
+         * Elements matched by the conditions, in order, with null where a condition did not hold
+         */
+        public List<WebElement> getElements() {
+            return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(elements)));
+        }
+
+        @Override
+        public String toString() {
+            return "held=" + Arrays.toString(held);
+        }
+    }
+}
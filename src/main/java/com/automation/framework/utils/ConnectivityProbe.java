@@ -0,0 +1,149 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shared connectivity oracle with a TTL cached result, background refresh and a circuit breaker.
+ * Callers get the last known answer immediately; a stale answer triggers an asynchronous probe.
+ * Callers arriving before the first probe of the JVM has finished wait for it, never longer than the
+ * probe timeout. A failed probe is retried right away, so the breaker opens after the threshold of
+ * consecutive failed attempts (a few probe timeouts), not after that many TTL periods.
+ */
+public class ConnectivityProbe {
+    private static final Logger logger = LogManager.getLogger(ConnectivityProbe.class);
+    private static volatile ConnectivityProbe instance;
+
+    private final String target;
+    private final int timeoutMillis;
+    private final long ttlMillis;
+    private final int failureThreshold;
+    private final long cooldownMillis;
+    private final ExecutorService refresher;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final CompletableFuture<Boolean> firstResult = new CompletableFuture<>();
+
+    private volatile boolean available;
+    private volatile long checkedAt;
+    private volatile int consecutiveFailures;
+    private volatile long circuitOpenUntil;
+
+    private ConnectivityProbe(ConfigManager config) {
+        this.target = config.getConnectivityProbeUrl();
+        this.timeoutMillis = config.getConnectivityProbeTimeoutMillis();
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(config.getConnectivityProbeTtlSeconds());
+        this.failureThreshold = Math.max(1, config.getConnectivityBreakerFailureThreshold());
+        this.cooldownMillis = TimeUnit.SECONDS.toMillis(config.getConnectivityBreakerCooldownSeconds());
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connectivity-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshAsync();
+    }
+
+    public static ConnectivityProbe getInstance() {
+        if (instance == null) {
+            synchronized (ConnectivityProbe.class) {
+                if (instance == null) {
+                    instance = new ConnectivityProbe(ConfigManager.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Last known connectivity state, refreshed in the background when older than the TTL
+     */
+    public boolean isAvailable() {
+        if (!firstResult.isDone()) {
+            try {
+                return firstResult.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        if (System.currentTimeMillis() - checkedAt > ttlMillis) {
+            refreshAsync();
+        }
+        return available;
+    }
+
+    /**
+     * Whether probing is suspended after repeated failures
+     */
+    public boolean isCircuitOpen() {
+        return System.currentTimeMillis() < circuitOpenUntil;
+    }
+
+    /**
+     * Schedule a probe unless one is already running or the circuit is open
+     */
+    public void refreshAsync() {
+        if (isCircuitOpen()) {
+            // Keep answering offline until the cool down expires, without touching the network
+            checkedAt = System.currentTimeMillis();
+            return;
+        }
+        if (refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    // Retry until the target answers or enough attempts failed to open the breaker
+                    for (int attempt = 0; attempt < failureThreshold; attempt++) {
+                        boolean result = probe();
+                        record(result);
+                        if (result || isCircuitOpen()) {
+                            break;
+                        }
+                    }
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    private boolean probe() {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(target).openConnection();
+            connection.setRequestMethod("HEAD");
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+
+            int responseCode = connection.getResponseCode();
+            connection.disconnect();
+            return responseCode >= 200 && responseCode < 400;
+        } catch (Exception e) {
+            logger.debug("Connectivity probe to {} failed: {}", target, e.getMessage());
+            return false;
+        }
+    }
+
+    private void record(boolean result) {
+        available = result;
+        checkedAt = System.currentTimeMillis();
+
+        if (result) {
+            consecutiveFailures = 0;
+        } else if (++consecutiveFailures >= failureThreshold) {
+            circuitOpenUntil = checkedAt + cooldownMillis;
+            consecutiveFailures = 0;
+            logger.warn("Connectivity probe failed {} times in a row, suspending probes for {} s",
+                    failureThreshold, TimeUnit.MILLISECONDS.toSeconds(cooldownMillis));
+        }
+
+        firstResult.complete(result);
+        logger.debug("Connectivity probe to {}: {}", target, result ? "online" : "offline");
+    }
+}
@@ -0,0 +1,226 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A DOM condition on one locator or element that can be evaluated inside the browser by ReactiveWait
+ * and CompositeCondition, or polled through WebDriver when the driver does not support scripting
+ */
+public final class DomCondition {
+
+    /**
+     * In-page evaluation shared by the wait scripts. A condition is passed as
+     * [strategy, selector, kind, attribute name, expected value, element]; __check returns the matched
+     * element (null for gone) when the condition holds and undefined when it does not.
+     */
+    static final String CHECK_FUNCTIONS =
+            "function __find(using, value) {" +
+            "  switch (using) {" +
+            "    case 'id': return document.getElementById(value);" +
+            "    case 'name': return document.getElementsByName(value)[0] || null;" +
+            "    case 'class name': return document.getElementsByClassName(value)[0] || null;" +
+            "    case 'tag name': return document.getElementsByTagName(value)[0] || null;" +
+            "    case 'css selector': return document.querySelector(value);" +
+            "    case 'xpath': return document.evaluate(value, document, null," +
+            "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  }" +
+            "  var links = document.getElementsByTagName('a');" +
+            "  for (var i = 0; i < links.length; i++) {" +
+            "    var text = (links[i].innerText || '').trim();" +
+            "    if (using === 'link text' ? text === value : text.indexOf(value) >= 0) return links[i];" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "function __visible(el) {" +
+            "  if (!el || !el.isConnected || el.getClientRects().length === 0) return false;" +
+            "  if (typeof el.checkVisibility === 'function') {" +
+            "    return el.checkVisibility({visibilityProperty: true, opacityProperty: true});" +
+            "  }" +
+            "  var style = window.getComputedStyle(el);" +
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && parseFloat(style.opacity) > 0;" +
+            "}" +
+            "function __check(c) {" +
+            "  var el = c[5] ? (c[5].isConnected ? c[5] : null) : __find(c[0], c[1]);" +
+            "  switch (c[2]) {" +
+            "    case 'present': return el ? el : undefined;" +
+            "    case 'visible': return __visible(el) ? el : undefined;" +
+            "    case 'clickable': return __visible(el) && !(el.matches && el.matches(':disabled')) ? el : undefined;" +
+            "    case 'text': return el && (el.innerText || el.textContent || '').indexOf(c[4]) >= 0 ? el : undefined;" +
+            "    case 'attribute':" +
+            "      if (!el) return undefined;" +
+            "      var actual = el.getAttribute(c[3]);" +
+            "      if (actual === null && c[3] in el) actual = el[c[3]];" +
+            "      return actual !== null && actual !== undefined && String(actual) === c[4] ? el : undefined;" +
+            "    case 'gone': return el && __visible(el) ? undefined : null;" +
+            "  }" +
+            "}";
+
+    /**
+     * Kinds of conditions, named as the in-page script knows them
+     */
+    public enum Kind {
+        PRESENT("present"),
+        VISIBLE("visible"),
+        CLICKABLE("clickable"),
+        TEXT_PRESENT("text"),
+        ATTRIBUTE_EQUALS("attribute"),
+        GONE("gone");
+
+        private final String scriptName;
+
+        Kind(String scriptName) {
+            this.scriptName = scriptName;
+        }
+
+        public String getScriptName() {
+            return scriptName;
+        }
+    }
+
+    private final Kind kind;
+    private final By locator;
+    private final WebElement element;
+    private final String name;
+    private final String expected;
+
+    private DomCondition(Kind kind, By locator, WebElement element, String name, String expected) {
+        this.kind = kind;
+        this.locator = locator;
+        this.element = element;
+        this.name = name;
+        this.expected = expected;
+    }
+
+    /**
+     * An element matching the locator is in the DOM
+     */
+    public static DomCondition present(By locator) {
+        return new DomCondition(Kind.PRESENT, locator, null, null, null);
+    }
+
+    /**
+     * First element matching the locator is displayed
+     */
+    public static DomCondition visible(By locator) {
+        return new DomCondition(Kind.VISIBLE, locator, null, null, null);
+    }
+
+    /**
+     * The element is displayed
+     */
+    public static DomCondition visible(WebElement element) {
+        return new DomCondition(Kind.VISIBLE, null, element, null, null);
+    }
+
+    /**
+     * First element matching the locator is displayed and enabled
+     */
+    public static DomCondition clickable(By locator) {
+        return new DomCondition(Kind.CLICKABLE, locator, null, null, null);
+    }
+
+    /**
+     * The element is displayed and enabled
+     */
+    public static DomCondition clickable(WebElement element) {
+        return new DomCondition(Kind.CLICKABLE, null, element, null, null);
+    }
+
+    /**
+     * First element matching the locator contains the text
+     */
+    public static DomCondition textPresent(By locator, String text) {
+        return new DomCondition(Kind.TEXT_PRESENT, locator, null, null, text);
+    }
+
+    /**
+     * Attribute (or property) of the first element matching the locator equals the value
+     */
+    public static DomCondition attributeEquals(By locator, String attribute, String value) {
+        return new DomCondition(Kind.ATTRIBUTE_EQUALS, locator, null, attribute, value);
+    }
+
+    /**
+     * No element matches the locator, or the first one is not displayed
+     */
+    public static DomCondition gone(By locator) {
+        return new DomCondition(Kind.GONE, locator, null, null, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * Whether the target can be resolved by the in-page script (elements and every built-in By strategy can)
+     */
+    public boolean isScriptable() {
+        return element != null || locator instanceof By.Remotable;
+    }
+
+    /**
+     * The condition in the form __check expects
+     */
+    List<Object> scriptArguments() {
+        String using = null;
+        String value = null;
+        if (element == null) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            using = parameters.using();
+            value = String.valueOf(parameters.value());
+        }
+        return Arrays.asList(using, value, kind.getScriptName(), name != null ? name : "",
+                expected != null ? expected : "", element);
+    }
+
+    /**
+     * Equivalent WebDriver condition, one or more round trips per poll. Yields the matched element,
+     * or Boolean.TRUE for GONE.
+     */
+    public ExpectedCondition<Object> toExpectedCondition() {
+        return driver -> {
+            try {
+                WebElement target = element;
+                if (target == null) {
+                    List<WebElement> elements = driver.findElements(locator);
+                    target = elements.isEmpty() ? null : elements.get(0);
+                }
+                return switch (kind) {
+                    case PRESENT -> target;
+                    case VISIBLE -> target != null && target.isDisplayed() ? target : null;
+                    case CLICKABLE -> target != null && target.isDisplayed() && target.isEnabled() ? target : null;
+                    case TEXT_PRESENT -> target != null && target.getText().contains(expected) ? target : null;
+                    case ATTRIBUTE_EQUALS -> target != null && expected.equals(target.getAttribute(name))
+                            ? target : null;
+                    case GONE -> target == null || !target.isDisplayed() ? Boolean.TRUE : null;
+                };
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                return kind == Kind.GONE ? Boolean.TRUE : null;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        Object target = element != null ? element : locator;
+        return switch (kind) {
+            case PRESENT -> "presence of " + target;
+            case VISIBLE -> "visibility of " + target;
+            case CLICKABLE -> "clickability of " + target;
+            case TEXT_PRESENT -> "text '" + expected + "' in " + target;
+            case ATTRIBUTE_EQUALS -> "attribute " + name + "='" + expected + "' of " + target;
+            case GONE -> "absence or invisibility of " + target;
+        };
+    }
+}
@@ -7,8 +7,6 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -171,22 +169,10 @@ public class DriverSetupUtils {
     }
 
     /**
-     * Check if internet connection is available
+     * Check if internet connection is available (cached, see {@link ConnectivityProbe})
      */
     public static boolean isInternetAvailable() {
-        try {
-            URL url = new URL("https://www.saucedemo.com/v1/index.html");
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("HEAD");
-            connection.setConnectTimeout(5000);
-            connection.setReadTimeout(5000);
-            
-            int responseCode = connection.getResponseCode();
-            return responseCode == 200;
-        } catch (Exception e) {
-            logger.debug("Internet connection check failed: {}", e.getMessage());
-            return false;
-        }
+        return ConnectivityProbe.getInstance().isAvailable();
     }
 
     /**
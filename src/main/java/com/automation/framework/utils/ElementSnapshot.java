@@ -0,0 +1,146 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads text, attributes, state and bounding box of many elements in one executeScript call, instead of
+ * several WebDriver round trips per element. Falls back to WebDriver calls per element when the driver
+ * cannot run scripts or a locator is not scriptable.
+ */
+public final class ElementSnapshot {
+
+    private static final String READ_SCRIPT = DomCondition.CHECK_FUNCTIONS +
+            "function __findAll(using, value) {" +
+            "  var found = [];" +
+            "  switch (using) {" +
+            "    case 'css selector': return Array.prototype.slice.call(document.querySelectorAll(value));" +
+            "    case 'tag name': return Array.prototype.slice.call(document.getElementsByTagName(value));" +
+            "    case 'id': return Array.prototype.slice.call(document.querySelectorAll('#' + CSS.escape(value)));" +
+            "    case 'name': return Array.prototype.slice.call(document.getElementsByName(value));" +
+            "    case 'class name': return Array.prototype.slice.call(document.getElementsByClassName(value));" +
+            "    case 'xpath':" +
+            "      var result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "      for (var i = 0; i < result.snapshotLength; i++) found.push(result.snapshotItem(i));" +
+            "      return found;" +
+            "  }" +
+            "  var links = document.getElementsByTagName('a');" +
+            "  for (var j = 0; j < links.length; j++) {" +
+            "    var text = (links[j].innerText || '').trim();" +
+            "    if (using === 'link text' ? text === value : text.indexOf(value) >= 0) found.push(links[j]);" +
+            "  }" +
+            "  return found;" +
+            "}" +
+            "function __state(el, names) {" +
+            "  var visible = __visible(el), rect = el.getBoundingClientRect(), attributes = {};" +
+            "  for (var i = 0; i < names.length; i++) {" +
+            "    var value = el.getAttribute(names[i]);" +
+            "    if (value === null && names[i] in el && el[names[i]] !== null && el[names[i]] !== undefined) value = String(el[names[i]]);" +
+            "    attributes[names[i]] = value;" +
+            "  }" +
+            "  var tag = el.tagName.toLowerCase(), type = (el.type || '').toLowerCase();" +
+            "  return {" +
+            "    element: el, tagName: tag," +
+            "    text: visible ? (el.innerText || '').replace(/\\u00a0/g, ' ').trim() : ''," +
+            "    attributes: attributes, displayed: visible," +
+            "    enabled: !(el.matches && el.matches(':disabled'))," +
+            "    selected: tag === 'option' ? el.selected : (type === 'checkbox' || type === 'radio') ? el.checked : false," +
+            "    x: Math.round(rect.left + window.pageXOffset), y: Math.round(rect.top + window.pageYOffset)," +
+            "    width: Math.round(rect.width), height: Math.round(rect.height)" +
+            "  };" +
+            "}" +
+            "var targets = arguments[0], names = arguments[1], states = [];" +
+            "for (var t = 0; t < targets.length; t++) {" +
+            "  var elements = Array.isArray(targets[t]) ? __findAll(targets[t][0], targets[t][1]) : [targets[t]];" +
+            "  for (var e = 0; e < elements.length; e++) states.push(__state(elements[e], names));" +
+            "}" +
+            "return states;";
+
+    private ElementSnapshot() {
+    }
+
+    /**
+     * State of every element matching each locator, in locator order and document order within a locator
+     */
+    public static List<ElementState> of(WebDriver driver, List<String> attributes, By... locators) {
+        boolean scriptable = driver instanceof JavascriptExecutor
+                && Arrays.stream(locators).allMatch(locator -> locator instanceof By.Remotable);
+        if (!scriptable) {
+            List<WebElement> elements = WaitUtils.withoutImplicitWait(driver, () -> {
+                List<WebElement> found = new ArrayList<>();
+                for (By locator : locators) {
+                    found.addAll(driver.findElements(locator));
+                }
+                return found;
+            });
+            return of(driver, elements, attributes);
+        }
+        List<Object> targets = new ArrayList<>();
+        for (By locator : locators) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            targets.add(Arrays.asList(parameters.using(), String.valueOf(parameters.value())));
+        }
+        return read((JavascriptExecutor) driver, targets, attributes);
+    }
+
+    /**
+     * State of each element, in order
+     */
+    public static List<ElementState> of(WebDriver driver, List<WebElement> elements, List<String> attributes) {
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (!(driver instanceof JavascriptExecutor)) {
+            List<ElementState> states = new ArrayList<>();
+            for (WebElement element : elements) {
+                states.add(readEach(element, attributes));
+            }
+            return Collections.unmodifiableList(states);
+        }
+        return read((JavascriptExecutor) driver, new ArrayList<>(elements), attributes);
+    }
+
+    private static List<ElementState> read(JavascriptExecutor js, List<Object> targets, List<String> attributes) {
+        List<?> response = (List<?>) js.executeScript(READ_SCRIPT, targets, attributes);
+        List<ElementState> states = new ArrayList<>(response.size());
+        for (Object item : response) {
+            Map<?, ?> state = (Map<?, ?>) item;
+            Map<String, String> values = new LinkedHashMap<>();
+            Map<?, ?> read = (Map<?, ?>) state.get("attributes");
+            for (String name : attributes) {
+                Object value = read.get(name);
+                values.put(name, value != null ? String.valueOf(value) : null);
+            }
+            states.add(new ElementState((WebElement) state.get("element"), String.valueOf(state.get("tagName")),
+                    String.valueOf(state.get("text")), values,
+                    Boolean.TRUE.equals(state.get("displayed")), Boolean.TRUE.equals(state.get("enabled")),
+                    Boolean.TRUE.equals(state.get("selected")),
+                    new Rectangle(intOf(state.get("x")), intOf(state.get("y")),
+                            intOf(state.get("height")), intOf(state.get("width")))));
+        }
+        return Collections.unmodifiableList(states);
+    }
+
+    private static ElementState readEach(WebElement element, List<String> attributes) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String name : attributes) {
+            values.put(name, element.getAttribute(name));
+        }
+        return new ElementState(element, element.getTagName(), element.getText(), values, element.isDisplayed(),
+                element.isEnabled(), element.isSelected(), element.getRect());
+    }
+
+    private static int intOf(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+}
@@ -0,0 +1,87 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable state of one element as read by ElementSnapshot: rendered text, requested attributes,
+ * visibility, enabled and selected state, and bounding box in page coordinates
+ */
+public final class ElementState {
+    private final WebElement element;
+    private final String tagName;
+    private final String text;
+    private final Map<String, String> attributes;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final Rectangle rect;
+
+    ElementState(WebElement element, String tagName, String text, Map<String, String> attributes,
+                 boolean displayed, boolean enabled, boolean selected, Rectangle rect) {
+        this.element = element;
+        this.tagName = tagName;
+        this.text = text;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.rect = rect;
+    }
+
+    /**
+     * The element this state was read from, for acting on it afterwards
+     */
+    public WebElement getElement() {
+        return element;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Visible text, empty for elements that are not displayed (as WebElement.getText)
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Value of a requested attribute (or property of that name), or null when the element has none
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    public Rectangle getRect() {
+        return rect;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("<%s> text='%s', attributes=%s, displayed=%s, enabled=%s, selected=%s, rect=%dx%d@%d,%d",
+                tagName, text, attributes, displayed, enabled, selected,
+                rect.getWidth(), rect.getHeight(), rect.getX(), rect.getY());
+    }
+}
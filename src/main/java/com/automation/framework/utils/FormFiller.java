@@ -0,0 +1,175 @@
+package com.automation.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Fills many form fields in one executeScript call instead of a wait, clear and sendKeys per field.
+ * Values are set through the native value setter and announced with input and change events, so
+ * framework-managed inputs (React, Angular, Vue) pick them up. Fields registered with type(), and fields
+ * the script cannot fill (missing, hidden, disabled, or a value the widget rewrote), are filled with
+ * real keystrokes after waiting for them.
+ */
+public class FormFiller {
+    private static final Logger logger = LogManager.getLogger(FormFiller.class);
+
+    /**
+     * Fills [strategy, selector, value] fields in order and returns one status per field:
+     * filled, missing, hidden, disabled or rejected
+     */
+    private static final String FILL_SCRIPT = DomCondition.CHECK_FUNCTIONS +
+            "function __setNative(el, property, value) {" +
+            "  var proto = Object.getPrototypeOf(el);" +
+            "  while (proto && !Object.getOwnPropertyDescriptor(proto, property)) proto = Object.getPrototypeOf(proto);" +
+            "  var descriptor = proto && Object.getOwnPropertyDescriptor(proto, property);" +
+            "  if (descriptor && descriptor.set) descriptor.set.call(el, value); else el[property] = value;" +
+            "}" +
+            "function __fill(el, value) {" +
+            "  var tag = el.tagName.toLowerCase(), type = (el.type || '').toLowerCase();" +
+            "  if (type === 'checkbox' || type === 'radio') {" +
+            "    var checked = value === 'true';" +
+            "    if (el.checked !== checked) el.click();" +
+            "    return el.checked === checked ? 'filled' : 'rejected';" +
+            "  } else if (tag === 'select') {" +
+            "    var option = null;" +
+            "    for (var i = 0; i < el.options.length && !option; i++) if (el.options[i].value === value) option = el.options[i];" +
+            "    for (var j = 0; j < el.options.length && !option; j++) if (el.options[j].text.trim() === value) option = el.options[j];" +
+            "    if (!option) return 'rejected';" +
+            "    __setNative(el, 'value', option.value);" +
+            "  } else if (el.isContentEditable) {" +
+            "    el.textContent = value;" +
+            "  } else {" +
+            "    __setNative(el, 'value', value);" +
+            "    if (el.value !== value) return 'rejected';" +
+            "  }" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  return 'filled';" +
+            "}" +
+            "var fields = arguments[0], statuses = [];" +
+            "for (var f = 0; f < fields.length; f++) {" +
+            "  var el = __find(fields[f][0], fields[f][1]);" +
+            "  if (!el) statuses.push('missing');" +
+            "  else if (!__visible(el)) statuses.push('hidden');" +
+            "  else if ((el.matches && el.matches(':disabled')) || el.readOnly) statuses.push('disabled');" +
+            "  else statuses.push(__fill(el, fields[f][2]));" +
+            "}" +
+            "return statuses;";
+
+    private final WebDriver driver;
+    private final WaitUtils waitUtils;
+    private final List<Field> fields = new ArrayList<>();
+
+    public FormFiller(WebDriver driver, WaitUtils waitUtils) {
+        this.driver = driver;
+        this.waitUtils = waitUtils;
+    }
+
+    /**
+     * Set the field's value in the batch. Checkboxes and radios take "true" or "false" and are clicked;
+     * selects take an option value or visible text.
+     */
+    public FormFiller set(By locator, String value) {
+        fields.add(new Field(locator, Objects.requireNonNull(value, "value"), false));
+        return this;
+    }
+
+    /**
+     * Set every field of the map in the batch, in the map's iteration order
+     */
+    public FormFiller setAll(Map<By, String> values) {
+        values.forEach(this::set);
+        return this;
+    }
+
+    /**
+     * Fill the field with real keystrokes, for widgets that only react to key events
+     */
+    public FormFiller type(By locator, String value) {
+        fields.add(new Field(locator, Objects.requireNonNull(value, "value"), true));
+        return this;
+    }
+
+    /**
+     * Fill all fields: the batch in one script call, then the keystroke fields and any the batch could not fill
+     */
+    public void fill() {
+        List<Field> batch = new ArrayList<>();
+        List<Field> keystrokes = new ArrayList<>();
+        for (Field field : fields) {
+            if (field.keystrokes || !(field.locator instanceof By.Remotable)) {
+                keystrokes.add(field);
+            } else {
+                batch.add(field);
+            }
+        }
+        if (!(driver instanceof JavascriptExecutor)) {
+            keystrokes.addAll(0, batch);
+            batch.clear();
+        }
+
+        if (!batch.isEmpty()) {
+            List<Object> arguments = new ArrayList<>();
+            for (Field field : batch) {
+                By.Remotable.Parameters parameters = ((By.Remotable) field.locator).getRemoteParameters();
+                arguments.add(Arrays.asList(parameters.using(), String.valueOf(parameters.value()), field.value));
+            }
+            List<?> statuses = (List<?>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, arguments);
+            for (int i = 0; i < batch.size(); i++) {
+                Object status = statuses.get(i);
+                if (!"filled".equals(status)) {
+                    logger.debug("Field {} not filled by script ({}), using keystrokes", batch.get(i).locator, status);
+                    keystrokes.add(batch.get(i));
+                }
+            }
+        }
+
+        for (Field field : keystrokes) {
+            typeInto(waitUtils.waitForElementToBeVisible(field.locator), field.value);
+        }
+        logger.debug("Filled {} form fields, {} with keystrokes", fields.size(), keystrokes.size());
+    }
+
+    private void typeInto(WebElement element, String value) {
+        String type = String.valueOf(element.getAttribute("type")).toLowerCase();
+        if (type.equals("checkbox") || type.equals("radio")) {
+            if (element.isSelected() != Boolean.parseBoolean(value)) {
+                element.click();
+            }
+        } else if ("select".equalsIgnoreCase(element.getTagName())) {
+            Select select = new Select(element);
+            try {
+                select.selectByValue(value);
+            } catch (NoSuchElementException e) {
+                select.selectByVisibleText(value);
+            }
+        } else {
+            element.clear();
+            element.sendKeys(value);
+        }
+    }
+
+    private static final class Field {
+        private final By locator;
+        private final String value;
+        private final boolean keystrokes;
+
+        private Field(By locator, String value, boolean keystrokes) {
+            this.locator = locator;
+            this.value = value;
+            this.keystrokes = keystrokes;
+        }
+    }
+}
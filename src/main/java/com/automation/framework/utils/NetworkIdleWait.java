@@ -0,0 +1,149 @@
+package com.automation.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits until the page has no more than a given number of fetch/XHR requests in flight for a quiet period.
+ * Requests are counted by a tracker that wraps window.fetch and XMLHttpRequest. On Chromium the tracker is
+ * also registered through CDP Page.addScriptToEvaluateOnNewDocument, so it is in place before the
+ * application's own scripts on every later navigation; elsewhere it is injected on the first wait of each
+ * document and cannot see requests that started before it.
+ */
+public class NetworkIdleWait {
+    private static final Logger logger = LogManager.getLogger(NetworkIdleWait.class);
+    private static final long SLICE_MILLIS = 5_000;
+    private static final int MAX_SCRIPT_FAILURES = 3;
+    private static final Set<WebDriver> registeredSessions = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private static final String TRACKER_SCRIPT =
+            "(function () {" +
+            "  if (window.__networkTracker) return;" +
+            "  var tracker = window.__networkTracker = {inflight: 0, lastChange: Date.now()};" +
+            "  function started() { tracker.inflight++; tracker.lastChange = Date.now(); }" +
+            "  function finished() { tracker.inflight = Math.max(0, tracker.inflight - 1); tracker.lastChange = Date.now(); }" +
+            "  if (window.fetch) {" +
+            "    var fetch = window.fetch;" +
+            "    window.fetch = function () {" +
+            "      started();" +
+            "      try {" +
+            "        var response = fetch.apply(this, arguments);" +
+            "        response.then(finished, finished);" +
+            "        return response;" +
+            "      } catch (e) { finished(); throw e; }" +
+            "    };" +
+            "  }" +
+            "  if (window.XMLHttpRequest) {" +
+            "    var send = XMLHttpRequest.prototype.send;" +
+            "    XMLHttpRequest.prototype.send = function () {" +
+            "      var done = false;" +
+            "      this.addEventListener('loadend', function () { if (!done) { done = true; finished(); } });" +
+            "      started();" +
+            "      try { return send.apply(this, arguments); }" +
+            "      catch (e) { if (!done) { done = true; finished(); } throw e; }" +
+            "    };" +
+            "  }" +
+            "})();";
+
+    private static final String WAIT_SCRIPT = TRACKER_SCRIPT +
+            "var quiet = arguments[0], maxInflight = arguments[1], budget = arguments[2]," +
+            "    done = arguments[arguments.length - 1], tracker = window.__networkTracker," +
+            "    start = Date.now(), idleSince = null;" +
+            "(function check() {" +
+            "  var now = Date.now();" +
+            "  if (tracker.inflight <= maxInflight) {" +
+            "    if (idleSince === null) idleSince = now;" +
+            "    if (now - idleSince >= quiet) { done({idle: true, inflight: tracker.inflight}); return; }" +
+            "  } else {" +
+            "    idleSince = null;" +
+            "  }" +
+            "  if (now - start >= budget) { done({idle: false, inflight: tracker.inflight}); return; }" +
+            "  setTimeout(check, Math.min(50, quiet));" +
+            "})();";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public NetworkIdleWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Wait until at most maxInflight requests have been in flight for the whole quiet period
+     *
+     * @throws TimeoutException when the page stays busy for the whole timeout
+     */
+    public void until(Duration quietPeriod, int maxInflight) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            logger.debug("Driver cannot run scripts, not waiting for network idle");
+            return;
+        }
+        registerForNewDocuments();
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long lastInflight = -1;
+        int failures = 0;
+        while (true) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format(
+                        "Network did not become idle (%d ms with at most %d requests in flight) within %d second(s); %d in flight",
+                        quietPeriod.toMillis(), maxInflight, timeout.getSeconds(), lastInflight));
+            }
+            try {
+                // A slice must be able to contain a whole quiet period
+                long slice = Math.max(SLICE_MILLIS, quietPeriod.toMillis() * 2);
+                Object result = js.executeAsyncScript(WAIT_SCRIPT, quietPeriod.toMillis(), maxInflight,
+                        Math.min(remaining, slice));
+                failures = 0;
+                if (result instanceof Map) {
+                    Map<?, ?> state = (Map<?, ?>) result;
+                    if (Boolean.TRUE.equals(state.get("idle"))) {
+                        return;
+                    }
+                    lastInflight = state.get("inflight") instanceof Number ? ((Number) state.get("inflight")).longValue() : -1;
+                }
+            } catch (ScriptTimeoutException e) {
+                logger.trace("Network idle slice hit the session script timeout");
+            } catch (NoSuchSessionException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                // A navigation unloaded the document; the next slice tracks the new one
+                if (++failures >= MAX_SCRIPT_FAILURES) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Install the tracker before page scripts on every new document of a Chromium session, once per session
+     */
+    private void registerForNewDocuments() {
+        if (!(driver instanceof HasCdp) || !registeredSessions.add(driver)) {
+            return;
+        }
+        try {
+            ((HasCdp) driver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", TRACKER_SCRIPT));
+        } catch (WebDriverException e) {
+            logger.debug("Could not register network tracker for new documents: {}", e.getMessage());
+        }
+    }
+}
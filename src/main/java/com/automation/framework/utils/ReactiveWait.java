@@ -0,0 +1,135 @@
+package com.automation.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for DOM conditions inside the browser. One executeAsyncScript checks the condition, then
+ * re-checks it from a MutationObserver (plus a short in-page interval for style and layout changes that
+ * are not DOM mutations) and returns as soon as it holds, so a wait costs one round trip per budget slice
+ * instead of one or more every 500 ms. Drivers or locators that cannot run the script are polled.
+ */
+public class ReactiveWait {
+    private static final Logger logger = LogManager.getLogger(ReactiveWait.class);
+    // Kept well below the default 30 s script timeout; the wait loops over slices until its own timeout
+    private static final long SLICE_MILLIS = 5_000;
+    private static final int MAX_SCRIPT_FAILURES = 3;
+
+    private static final String WAIT_SCRIPT = DomCondition.CHECK_FUNCTIONS +
+            "var condition = arguments[0], budget = arguments[1], done = arguments[arguments.length - 1];" +
+            "function check() { return __check(condition); }" +
+            "var initial = check();" +
+            "if (initial !== undefined) { done({met: true, element: initial}); return; }" +
+            "var finished = false, observer, timer, slice;" +
+            "function finish(result) {" +
+            "  if (finished) return;" +
+            "  finished = true; observer.disconnect(); clearInterval(timer); clearTimeout(slice);" +
+            "  done(result);" +
+            "}" +
+            "function recheck() { var el = check(); if (el !== undefined) finish({met: true, element: el}); }" +
+            "observer = new MutationObserver(recheck);" +
+            "observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});" +
+            "timer = setInterval(recheck, 100);" +
+            "slice = setTimeout(function () { finish({met: false}); }, budget);";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private volatile boolean scriptingAvailable;
+
+    public ReactiveWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.scriptingAvailable = driver instanceof JavascriptExecutor;
+    }
+
+    /**
+     * Wait until the condition holds
+     *
+     * @return the matched element, or null for DomCondition.gone
+     * @throws TimeoutException when the condition does not hold within the timeout
+     */
+    public WebElement until(DomCondition condition) {
+        logger.debug("Waiting for {}", condition);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        if (!scriptingAvailable || !condition.isScriptable()) {
+            return poll(condition, timeout);
+        }
+
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        int failures = 0;
+        while (true) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d second(s))",
+                        condition, timeout.getSeconds()));
+            }
+            try {
+                Object result = js.executeAsyncScript(WAIT_SCRIPT, condition.scriptArguments(),
+                        Math.min(remaining, SLICE_MILLIS));
+                failures = 0;
+                if (result instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) result).get("met"))) {
+                    WebElement element = (WebElement) ((Map<?, ?>) result).get("element");
+                    if (confirm(condition, element)) {
+                        return element;
+                    }
+                    // The in-page check disagrees with the driver; let the driver decide
+                    return poll(condition, Duration.ofMillis(Math.max(1, remaining)));
+                }
+            } catch (UnsupportedCommandException e) {
+                logger.debug("Async scripts are not supported, polling from now on: {}", e.getMessage());
+                scriptingAvailable = false;
+                return poll(condition, Duration.ofMillis(remaining));
+            } catch (ScriptTimeoutException e) {
+                // Session script timeout is shorter than the slice; try again
+                logger.trace("Wait slice hit the session script timeout");
+            } catch (NoSuchSessionException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                // Usually a navigation that unloaded the document mid-wait
+                if (++failures >= MAX_SCRIPT_FAILURES) {
+                    logger.debug("In-page wait keeps failing, polling instead: {}", e.getMessage());
+                    return poll(condition, Duration.ofMillis(remaining));
+                }
+            }
+        }
+    }
+
+    public boolean isScriptingAvailable() {
+        return scriptingAvailable;
+    }
+
+    /**
+     * The in-page visibility check approximates Selenium's; confirm it with the driver's own atom
+     */
+    private static boolean confirm(DomCondition condition, WebElement element) {
+        DomCondition.Kind kind = condition.getKind();
+        if (kind != DomCondition.Kind.VISIBLE && kind != DomCondition.Kind.CLICKABLE) {
+            return true;
+        }
+        try {
+            return element != null && element.isDisplayed()
+                    && (kind == DomCondition.Kind.VISIBLE || element.isEnabled());
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    private WebElement poll(DomCondition condition, Duration budget) {
+        Object result = new WebDriverWait(driver, budget).until(condition.toExpectedCondition());
+        return result instanceof WebElement ? (WebElement) result : null;
+    }
+}
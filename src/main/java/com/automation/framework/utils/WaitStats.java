@@ -0,0 +1,151 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typical time-to-satisfy of each wait (condition and locator), learned across runs.
+ * Kept as an exponentially weighted average per key and persisted to a small properties file,
+ * so the next run can time its first poll and flag waits that are much slower than usual.
+ */
+public class WaitStats {
+    private static final Logger logger = LogManager.getLogger(WaitStats.class);
+    private static final int MAX_KEYS = 5_000;
+    private static final int MIN_SAMPLES_FOR_WARNING = 5;
+    private static final long MIN_SLOWDOWN_MILLIS = 250;
+    private static volatile WaitStats instance;
+
+    private final Path file;
+    private final double slowFactor;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    WaitStats(Path file, double slowFactor) {
+        this.file = file;
+        this.slowFactor = slowFactor;
+        load();
+    }
+
+    public static WaitStats getInstance() {
+        if (instance == null) {
+            synchronized (WaitStats.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    WaitStats stats = new WaitStats(Paths.get(config.getWaitStatsFile()), config.getWaitSlowFactor());
+                    Runtime.getRuntime().addShutdownHook(new Thread(stats::save, "wait-stats-save"));
+                    instance = stats;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Typical time-to-satisfy of the wait in milliseconds, or -1 when it was never seen
+     */
+    public double getTypicalMillis(String key) {
+        Entry entry = key != null ? entries.get(key) : null;
+        return entry != null ? entry.getAverageMillis() : -1;
+    }
+
+    /**
+     * Record how long a satisfied wait took, warning when it was much slower than usual
+     */
+    public void record(String key, long elapsedMillis) {
+        if (key == null) {
+            return;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= MAX_KEYS) {
+                return;
+            }
+            entry = entries.computeIfAbsent(key, k -> new Entry(0, 0));
+        }
+        double typical = entry.getAverageMillis();
+        if (entry.getCount() >= MIN_SAMPLES_FOR_WARNING && elapsedMillis > typical * slowFactor
+                && elapsedMillis - typical > MIN_SLOWDOWN_MILLIS) {
+            logger.warn("Slow wait: {} took {} ms, usually {} ms", key, elapsedMillis, Math.round(typical));
+        }
+        entry.add(elapsedMillis);
+    }
+
+    /**
+     * Write the learned averages to the stats file
+     */
+    public synchronized void save() {
+        Properties properties = new Properties();
+        entries.forEach((key, entry) -> properties.setProperty(key, entry.getCount() + "," + entry.getAverageMillis()));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "wait-stats", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "Typical wait times: samples,average ms");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Could not save wait stats to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.isReadable(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            logger.debug("Could not read wait stats from {}: {}", file, e.getMessage());
+            return;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            String[] values = properties.getProperty(key).split(",");
+            try {
+                entries.put(key, new Entry(Long.parseLong(values[0]), Double.parseDouble(values[1])));
+            } catch (RuntimeException e) {
+                logger.trace("Ignoring malformed wait stats entry {}", key);
+            }
+        }
+        logger.debug("Loaded typical times of {} waits from {}", entries.size(), file);
+    }
+
+    private static final class Entry {
+        // Later samples weigh at least this much, so the average follows an application that got slower
+        private static final double MIN_WEIGHT = 0.1;
+
+        private long count;
+        private double averageMillis;
+
+        private Entry(long count, double averageMillis) {
+            this.count = count;
+            this.averageMillis = averageMillis;
+        }
+
+        private synchronized void add(long millis) {
+            count++;
+            double weight = Math.max(MIN_WEIGHT, 1.0 / count);
+            averageMillis += weight * (millis - averageMillis);
+        }
+
+        private synchronized long getCount() {
+            return count;
+        }
+
+        private synchronized double getAverageMillis() {
+            return count == 0 ? -1 : averageMillis;
+        }
+    }
+}
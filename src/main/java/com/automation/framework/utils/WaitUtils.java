@@ -5,13 +5,16 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Utility class for WebDriver waits and conditions
@@ -20,15 +23,21 @@ public class WaitUtils {
     private static final Logger logger = LogManager.getLogger(WaitUtils.class);
     @SuppressWarnings("unused") // Used indirectly in lambda expressions
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final AdaptiveWait wait;
     private final JavascriptExecutor jsExecutor;
     private final ConfigManager config;
+    private final ReactiveWait reactiveWait;
+    private final NetworkIdleWait networkIdleWait;
 
     public WaitUtils(WebDriver driver) {
         this.driver = driver;
         this.config = ConfigManager.getInstance();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(config.getExplicitTimeout()));
+        this.wait = new AdaptiveWait(driver, Duration.ofSeconds(config.getExplicitTimeout()),
+                config.getWaitPollInitialMillis(), config.getWaitPollMaxMillis(), config.getWaitPollBackoff(),
+                WaitStats.getInstance(), Duration.ofSeconds(config.getImplicitTimeout()));
         this.jsExecutor = (JavascriptExecutor) driver;
+        this.reactiveWait = new ReactiveWait(driver, Duration.ofSeconds(config.getExplicitTimeout()));
+        this.networkIdleWait = new NetworkIdleWait(driver, Duration.ofSeconds(config.getExplicitTimeout()));
     }
 
     /**
@@ -36,6 +45,9 @@ public class WaitUtils {
      */
     public WebElement waitForElementToBeVisible(By locator) {
         logger.debug("Waiting for element to be visible: {}", locator);
+        if (config.isReactiveWaitEnabled()) {
+            return reactive(DomCondition.visible(locator));
+        }
         return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
@@ -92,6 +104,10 @@ public class WaitUtils {
      */
     public boolean waitForElementToBeInvisible(By locator) {
         logger.debug("Waiting for element to be invisible: {}", locator);
+        if (config.isReactiveWaitEnabled()) {
+            reactive(DomCondition.gone(locator));
+            return true;
+        }
         return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
@@ -108,6 +124,10 @@ public class WaitUtils {
      */
     public boolean waitForTextToBePresentInElement(By locator, String text) {
         logger.debug("Waiting for text '{}' to be present in element: {}", text, locator);
+        if (config.isReactiveWaitEnabled()) {
+            reactive(DomCondition.textPresent(locator, text));
+            return true;
+        }
         return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
     }
 
@@ -132,6 +152,10 @@ public class WaitUtils {
      */
     public boolean waitForAttributeToBe(By locator, String attribute, String value) {
         logger.debug("Waiting for attribute '{}' to be '{}' in element: {}", attribute, value, locator);
+        if (config.isReactiveWaitEnabled()) {
+            reactive(DomCondition.attributeEquals(locator, attribute, value));
+            return true;
+        }
         return wait.until(ExpectedConditions.attributeToBe(locator, attribute, value));
     }
 
@@ -207,6 +231,140 @@ public class WaitUtils {
         wait.until(webDriver -> jsExecutor.executeScript("return document.readyState").equals("complete"));
     }
 
+    /**
+     * Wait until the DOM is parsed (readyState interactive or complete), without waiting for subresources
+     */
+    public void waitForDocumentReady() {
+        logger.debug("Waiting for document to be interactive");
+        wait.until(documentReady());
+    }
+
+    /**
+     * Condition that holds once the DOM is parsed (readyState interactive or complete)
+     */
+    public static Function<WebDriver, Boolean> documentReady() {
+        return webDriver -> !"loading".equals(((JavascriptExecutor) webDriver).executeScript("return document.readyState"));
+    }
+
+    /**
+     * Wait for a DOM condition inside the browser, resolving as soon as it holds
+     */
+    public WebElement waitFor(DomCondition condition) {
+        return reactive(condition);
+    }
+
+    /**
+     * Wait until every condition holds, checking all of them in one round trip per poll
+     */
+    public CompositeCondition.Result waitForAllOf(DomCondition... conditions) {
+        return waitFor(CompositeCondition.allOf(conditions));
+    }
+
+    /**
+     * Wait until at least one condition holds, checking all of them in one round trip per poll
+     */
+    public CompositeCondition.Result waitForAnyOf(DomCondition... conditions) {
+        return waitFor(CompositeCondition.anyOf(conditions));
+    }
+
+    /**
+     * Wait until a condition holds, checking them in order in one round trip per poll
+     */
+    public CompositeCondition.Result waitForFirstOf(DomCondition... conditions) {
+        return waitFor(CompositeCondition.firstOf(conditions));
+    }
+
+    /**
+     * Element matching the locator right now, checked in one round trip without the implicit wait
+     */
+    public Optional<WebElement> findNow(By locator) {
+        return findWithin(locator, Duration.ZERO);
+    }
+
+    /**
+     * Element matching the locator within the budget, without the implicit wait; returns as soon as one does
+     */
+    public Optional<WebElement> findWithin(By locator, Duration budget) {
+        return checkWithin(CompositeCondition.anyOf(DomCondition.present(locator)), budget)
+                .map(result -> result.getElement(0));
+    }
+
+    /**
+     * Whether an element matches the locator right now, without the implicit wait
+     */
+    public boolean isPresentNow(By locator) {
+        return findNow(locator).isPresent();
+    }
+
+    /**
+     * Whether the first element matching the locator is displayed right now, without the implicit wait
+     */
+    public boolean isDisplayedNow(By locator) {
+        return checkWithin(CompositeCondition.anyOf(DomCondition.visible(locator)), Duration.ZERO).isPresent();
+    }
+
+    /**
+     * Whether an element matches the locator within the budget; returns as soon as one does
+     */
+    public boolean isPresentWithin(By locator, Duration budget) {
+        return findWithin(locator, budget).isPresent();
+    }
+
+    /**
+     * Whether the locator matches no displayed element within the budget; returns as soon as it does not
+     */
+    public boolean isAbsentWithin(By locator, Duration budget) {
+        return checkWithin(CompositeCondition.anyOf(DomCondition.gone(locator)), budget).isPresent();
+    }
+
+    /**
+     * Poll a condition for at most the budget without failing, bypassing the implicit wait.
+     * A zero budget checks once.
+     */
+    public Optional<CompositeCondition.Result> checkWithin(CompositeCondition condition, Duration budget) {
+        AdaptiveWait bounded = new AdaptiveWait(driver, budget, config.getWaitPollInitialMillis(),
+                config.getWaitPollMaxMillis(), config.getWaitPollBackoff(), WaitStats.getInstance(), Duration.ZERO);
+        try {
+            return Optional.of(bounded.until(condition));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Default budget of the bounded presence checks
+     */
+    public Duration getPresenceCheckBudget() {
+        return Duration.ofMillis(config.getPresenceCheckMillis());
+    }
+
+    /**
+     * Wait for a composite condition
+     */
+    public CompositeCondition.Result waitFor(CompositeCondition condition) {
+        logger.debug("Waiting for {}", condition);
+        return wait.until(condition);
+    }
+
+    private WebElement reactive(DomCondition condition) {
+        return wait.measure(AdaptiveWait.keyOf(condition), () -> reactiveWait.until(condition));
+    }
+
+    /**
+     * Wait until no fetch/XHR request has been in flight for the configured quiet period
+     */
+    public void waitForNetworkIdle() {
+        waitForNetworkIdle(Duration.ofMillis(config.getNetworkIdleQuietMillis()), config.getNetworkIdleMaxInflight());
+    }
+
+    /**
+     * Wait until at most maxInflight fetch/XHR requests have been in flight for the whole quiet period
+     */
+    public void waitForNetworkIdle(Duration quietPeriod, int maxInflight) {
+        logger.debug("Waiting for network idle: {} ms with at most {} requests in flight", quietPeriod.toMillis(), maxInflight);
+        networkIdleWait.until(quietPeriod, maxInflight);
+    }
+
     /**
      * Wait for jQuery to load (if present)
      */
@@ -245,6 +403,23 @@ public class WaitUtils {
         return wait.until(condition);
     }
 
+    /**
+     * Run an action with the session's implicit wait set to zero, restoring it afterwards
+     */
+    public static <T> T withoutImplicitWait(WebDriver driver, Supplier<T> action) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration implicitWait = timeouts.getImplicitWaitTimeout();
+        if (implicitWait.isZero()) {
+            return action.get();
+        }
+        timeouts.implicitlyWait(Duration.ZERO);
+        try {
+            return action.get();
+        } finally {
+            timeouts.implicitlyWait(implicitWait);
+        }
+    }
+
     /**
      * Sleep for specified milliseconds
      */
@@ -0,0 +1,83 @@
+package com.automation.benchmarks;
+
+import com.automation.framework.config.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading the settings the listeners and waits read on every test event, with 16 threads contending:
+ * the previous System.getProperty + synchronized Properties lookup + parse on each call, against a field
+ * load from the published ConfigSnapshot.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.automation.benchmarks.ConfigReadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(16)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConfigReadBenchmark {
+
+    private Properties properties;
+    private ConfigManager config;
+
+    @Setup
+    public void setUp() throws IOException {
+        properties = new Properties();
+        try (FileInputStream fis = new FileInputStream("src/main/resources/config/application.properties")) {
+            properties.load(fis);
+        }
+        config = ConfigManager.getInstance();
+    }
+
+    @Benchmark
+    public void lookupPerRead(Blackhole blackhole) {
+        blackhole.consume(Boolean.parseBoolean(lookup("reports.extent.enabled")));
+        blackhole.consume(Integer.parseInt(lookup("test.timeout.explicit")));
+        blackhole.consume(Boolean.parseBoolean(lookup("test.wait.reactive.enabled")));
+        blackhole.consume(lookup("browser"));
+    }
+
+    @Benchmark
+    public void snapshotRead(Blackhole blackhole) {
+        blackhole.consume(config.isExtentReportsEnabled());
+        blackhole.consume(config.getExplicitTimeout());
+        blackhole.consume(config.isReactiveWaitEnabled());
+        blackhole.consume(config.getBrowser());
+    }
+
+    // How every getter resolved a setting before the snapshot
+    private String lookup(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = properties.getProperty(key);
+        }
+        return value;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConfigReadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.automation.framework.config;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ConfigSnapshotTest {
+
+    @Test(groups = {"unit"})
+    public void missingSettingsUseDefaults() {
+        ConfigSnapshot snapshot = ConfigSnapshot.from(Map.of());
+        Assert.assertEquals(snapshot.browser().name(), "chrome");
+        Assert.assertEquals(snapshot.browser().pageLoadStrategy(), "normal");
+        Assert.assertEquals(snapshot.timeouts().explicitSeconds(), 30);
+        Assert.assertFalse(snapshot.pool().enabled());
+        Assert.assertFalse(snapshot.reload().enabled());
+        Assert.assertEquals(snapshot.admission().memoryCostMb("chrome"), 500);
+    }
+
+    @Test(groups = {"unit"})
+    public void valuesAreParsedAndNormalized() {
+        ConfigSnapshot snapshot = ConfigSnapshot.from(Map.of(
+                "browser", " Firefox ",
+                "browser.headless", "TRUE",
+                "browser.page.load.strategy", "Eager",
+                "test.timeout.explicit", " 45 ",
+                "test.wait.poll.backoff", "2.5",
+                "browser.block.url.patterns", " *ads* , ,*.gif ",
+                "browser.block.resource.types", "Image,FONT",
+                "driver.admission.memory.cost.firefox", "700"));
+
+        Assert.assertEquals(snapshot.browser().name(), "firefox");
+        Assert.assertTrue(snapshot.browser().headless());
+        Assert.assertEquals(snapshot.browser().pageLoadStrategy(), "eager");
+        Assert.assertEquals(snapshot.timeouts().explicitSeconds(), 45);
+        Assert.assertEquals(snapshot.waits().pollBackoff(), 2.5);
+        Assert.assertEquals(snapshot.browser().blockedUrlPatterns(), List.of("*ads*", "*.gif"));
+        Assert.assertEquals(snapshot.browser().blockedResourceTypes(), Set.of("image", "font"));
+        Assert.assertEquals(snapshot.admission().memoryCostMb("firefox"), 700);
+    }
+
+    @Test(groups = {"unit"})
+    public void blankTypedValuesUseDefaults() {
+        ConfigSnapshot snapshot = ConfigSnapshot.from(Map.of(
+                "test.timeout.implicit", "",
+                "driver.pool.enabled", "  "));
+        Assert.assertEquals(snapshot.timeouts().implicitSeconds(), 10);
+        Assert.assertFalse(snapshot.pool().enabled());
+    }
+
+    @Test(groups = {"unit"})
+    public void everyProblemIsReported() {
+        Map<String, String> properties = Map.of(
+                "test.timeout.explicit", "abc",
+                "browser.headless", "yes",
+                "browser.page.load.strategy", "fast",
+                "test.wait.poll.backoff", "0.5",
+                "driver.pool.max.idle", "-1");
+        try {
+            ConfigSnapshot.from(properties);
+            Assert.fail("Invalid configuration was accepted");
+        } catch (IllegalArgumentException e) {
+            String message = e.getMessage();
+            Assert.assertTrue(message.startsWith("Invalid configuration: "), message);
+            Assert.assertTrue(message.contains("test.timeout.explicit=abc is not a whole number"), message);
+            Assert.assertTrue(message.contains("browser.headless=yes is not true or false"), message);
+            Assert.assertTrue(message.contains("browser.page.load.strategy=fast is not one of"), message);
+            Assert.assertTrue(message.contains("test.wait.poll.backoff=0.5 must be at least 1.0"), message);
+            Assert.assertTrue(message.contains("driver.pool.max.idle=-1 must be at least 0"), message);
+        }
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = ".*test.wait.poll.max.ms must not be below test.wait.poll.initial.ms.*")
+    public void pollMaximumMustNotBeBelowInitial() {
+        ConfigSnapshot.from(Map.of("test.wait.poll.initial.ms", "100", "test.wait.poll.max.ms", "50"));
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = ".*proxy.host is required.*")
+    public void enabledProxyNeedsAHost() {
+        ConfigSnapshot.from(Map.of("proxy.enabled", "true"));
+    }
+
+    @Test(groups = {"unit"})
+    public void snapshotsOfTheSameValuesAreEqual() {
+        Map<String, String> properties = Map.of("browser", "edge", "driver.pool.max.uses", "20");
+        ConfigSnapshot first = ConfigSnapshot.from(properties);
+        ConfigSnapshot second = ConfigSnapshot.from(new HashMap<>(properties));
+
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.hashCode(), second.hashCode());
+        Assert.assertEquals(first.pool(), second.pool());
+        Assert.assertNotEquals(ConfigSnapshot.from(Map.of("browser", "chrome")), first);
+    }
+
+    @Test(groups = {"unit"})
+    public void snapshotDoesNotFollowTheSourceMap() {
+        Map<String, String> properties = new HashMap<>(Map.of("browser", "edge"));
+        ConfigSnapshot snapshot = ConfigSnapshot.from(properties);
+        properties.put("browser", "firefox");
+
+        Assert.assertEquals(snapshot.properties().get("browser"), "edge");
+        Assert.assertEquals(snapshot.browser().name(), "edge");
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = UnsupportedOperationException.class)
+    public void propertiesAreImmutable() {
+        ConfigSnapshot.from(Map.of()).properties().put("browser", "edge");
+    }
+}
@@ -0,0 +1,70 @@
+package com.automation.framework.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class DriverProvisionerTest {
+
+    @Test(groups = {"unit"})
+    public void prefetchedSpawnFailingAfterHandoverIsReplacedOnTheCaller() throws InterruptedException {
+        DriverProvisioner provisioner = new DriverProvisioner(1, 1, driver -> { });
+        CountDownLatch handedOver = new CountDownLatch(1);
+        provisioner.prefetch("chrome", () -> {
+            await(handedOver);
+            throw new IllegalStateException("browser crashed on startup");
+        });
+
+        List<Thread> spawnedOn = new CopyOnWriteArrayList<>();
+        Supplier<WebDriver> factory = () -> {
+            spawnedOn.add(Thread.currentThread());
+            return null;
+        };
+        Thread release = new Thread(() -> {
+            sleep(100);
+            handedOver.countDown();
+        });
+        release.start();
+
+        Assert.assertNull(provisioner.acquire("chrome", factory));
+        Assert.assertTrue(spawnedOn.contains(Thread.currentThread()), "no session was started on the caller");
+        Assert.assertEquals(provisioner.getPrefetchHits(), 1);
+        release.join();
+        provisioner.shutdown();
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = IllegalStateException.class,
+            expectedExceptionsMessageRegExp = "no driver")
+    public void failureOfASessionStartedOnDemandIsRethrown() {
+        DriverProvisioner provisioner = new DriverProvisioner(1, 0, driver -> { });
+        try {
+            provisioner.acquire("chrome", () -> {
+                throw new IllegalStateException("no driver");
+            });
+        } finally {
+            provisioner.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.automation.framework.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SessionResetStrategiesTest {
+
+    @Test(groups = {"unit"})
+    public void parsesStrategiesInOrder() {
+        Assert.assertEquals(SessionResetStrategies.parse("cookies,windows").getName(), "cookies,windows");
+    }
+
+    @Test(groups = {"unit"})
+    public void singleStrategyIsNotWrapped() {
+        Assert.assertEquals(SessionResetStrategies.parse("blank").getName(), "blank");
+    }
+
+    @Test(groups = {"unit"})
+    public void blankSpecUsesDefault() {
+        Assert.assertEquals(SessionResetStrategies.parse(null).getName(), SessionResetStrategies.DEFAULT);
+        Assert.assertEquals(SessionResetStrategies.parse("  ").getName(), SessionResetStrategies.DEFAULT);
+    }
+
+    @Test(groups = {"unit"})
+    public void namesAreTrimmedAndCaseInsensitive() {
+        Assert.assertEquals(SessionResetStrategies.parse(" Storage , COOKIES ").getName(), "storage,cookies");
+    }
+
+    @Test(groups = {"unit"})
+    public void unknownNamesAreSkipped() {
+        Assert.assertEquals(SessionResetStrategies.parse("windows,bogus,blank").getName(), "windows,blank");
+    }
+
+    @Test(groups = {"unit"})
+    public void noneResetsNothing() {
+        SessionResetStrategy none = SessionResetStrategies.parse("none");
+        Assert.assertEquals(none.getName(), "none");
+        // A no-op strategy must not touch the driver
+        none.reset(null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.automation.framework.driver;
+
+import com.automation.framework.driver.StartupTimings.Phase;
+import com.automation.framework.driver.StartupTimings.PhaseStats;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class StartupTimingsTest {
+    private static final long MILLIS = 1_000_000L;
+
+    @Test(groups = {"unit"})
+    public void percentilesUseNearestRank() {
+        StartupTimings timings = new StartupTimings();
+        // Recorded out of order to check the samples are sorted
+        for (int i = 100; i >= 1; i--) {
+            timings.record("chrome", Phase.SPAWN, i * MILLIS);
+        }
+
+        PhaseStats stats = timings.getStats("chrome").get(Phase.SPAWN);
+        Assert.assertEquals(stats.getCount(), 100);
+        Assert.assertEquals(stats.getP50Millis(), 50.0);
+        Assert.assertEquals(stats.getP95Millis(), 95.0);
+        Assert.assertEquals(stats.getP99Millis(), 99.0);
+        Assert.assertEquals(stats.getMaxMillis(), 100.0);
+    }
+
+    @Test(groups = {"unit"})
+    public void singleSampleIsEveryPercentile() {
+        StartupTimings timings = new StartupTimings();
+        timings.record("edge", Phase.HANDSHAKE, 7 * MILLIS);
+
+        PhaseStats stats = timings.getStats("edge").get(Phase.HANDSHAKE);
+        Assert.assertEquals(stats.getP50Millis(), 7.0);
+        Assert.assertEquals(stats.getP99Millis(), 7.0);
+        Assert.assertEquals(stats.getMaxMillis(), 7.0);
+    }
+
+    @Test(groups = {"unit"})
+    public void oldestSamplesAreDroppedWhenFull() {
+        StartupTimings timings = new StartupTimings();
+        for (int i = 0; i < 10_000; i++) {
+            timings.record("chrome", Phase.TOTAL, MILLIS);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            timings.record("chrome", Phase.TOTAL, 2 * MILLIS);
+        }
+
+        PhaseStats stats = timings.getStats("chrome").get(Phase.TOTAL);
+        Assert.assertEquals(stats.getCount(), 10_000);
+        Assert.assertEquals(stats.getP50Millis(), 2.0);
+    }
+
+    @Test(groups = {"unit"})
+    public void failedTasksAreTimedToo() {
+        StartupTimings timings = new StartupTimings();
+        try {
+            timings.time("firefox", Phase.RESOLUTION, () -> {
+                throw new IllegalStateException("driver not found");
+            });
+            Assert.fail("The task's exception was swallowed");
+        } catch (IllegalStateException expected) {
+            // recorded below
+        }
+        Assert.assertEquals(timings.getStats("firefox").get(Phase.RESOLUTION).getCount(), 1);
+    }
+
+    @Test(groups = {"unit"})
+    public void phasesAreReportedInExecutionOrder() {
+        StartupTimings timings = new StartupTimings();
+        timings.record("chrome", Phase.TOTAL, MILLIS);
+        timings.record("chrome", Phase.CONFIGURE_WDM, MILLIS);
+        timings.record("chrome", Phase.SPAWN, MILLIS);
+
+        Map<Phase, PhaseStats> stats = timings.getStats("chrome");
+        Assert.assertEquals(new ArrayList<>(stats.keySet()), List.of(Phase.CONFIGURE_WDM, Phase.SPAWN, Phase.TOTAL));
+        Assert.assertTrue(timings.getStats("safari").isEmpty());
+    }
+}
@@ -0,0 +1,159 @@
+package com.automation.framework.pages;
+
+import com.automation.framework.utils.FakeDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+public class CachingFieldDecoratorTest {
+    private final Deque<WebElement> found = new ArrayDeque<>();
+    private final List<By> lookups = new ArrayList<>();
+    private CachingElementLocatorFactory factory;
+    private Page page;
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUp() {
+        found.clear();
+        lookups.clear();
+        page = initPage(true);
+    }
+
+    @Test(groups = {"unit"})
+    public void cachedFieldIsLookedUpOnce() {
+        found.add(element("Sauce Labs"));
+
+        Assert.assertEquals(page.username.getText(), "Sauce Labs");
+        Assert.assertEquals(page.username.getText(), "Sauce Labs");
+        Assert.assertEquals(lookups, List.of(By.id("user-name")));
+    }
+
+    @Test(groups = {"unit"})
+    public void uncachedFieldIsLookedUpOnEveryUse() {
+        found.add(element("Username is required"));
+        found.add(element("Password is required"));
+
+        Assert.assertEquals(page.error.getText(), "Username is required");
+        Assert.assertEquals(page.error.getText(), "Password is required");
+        Assert.assertEquals(lookups.size(), 2);
+    }
+
+    @Test(groups = {"unit"})
+    public void disabledCacheLooksUpOnEveryUse() {
+        page = initPage(false);
+        found.add(element("first"));
+        found.add(element("second"));
+
+        page.username.getText();
+        Assert.assertEquals(page.username.getText(), "second");
+        Assert.assertEquals(lookups.size(), 2);
+    }
+
+    @Test(groups = {"unit"})
+    public void staleElementIsFoundAgainAndTheCallRepeated() {
+        found.add(staleElement());
+        found.add(element("fresh"));
+
+        Assert.assertEquals(page.username.getText(), "fresh");
+        // The element found again is cached
+        Assert.assertEquals(page.username.getText(), "fresh");
+        Assert.assertEquals(lookups.size(), 2);
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = StaleElementReferenceException.class)
+    public void staleElementIsRetriedOnlyOnce() {
+        found.add(staleElement());
+        found.add(staleElement());
+        found.add(element("never reached"));
+
+        page.username.getText();
+    }
+
+    @Test(groups = {"unit"})
+    public void staleUncachedElementIsNotRetried() {
+        found.add(staleElement());
+        found.add(element("never reached"));
+
+        try {
+            page.error.getText();
+            Assert.fail("Stale element was retried");
+        } catch (StaleElementReferenceException expected) {
+            Assert.assertEquals(lookups.size(), 1);
+        }
+    }
+
+    @Test(groups = {"unit"})
+    public void invalidateAllDropsCachedElements() {
+        found.add(element("before navigation"));
+        found.add(element("after navigation"));
+
+        page.username.getText();
+        factory.invalidateAll();
+        Assert.assertEquals(page.username.getText(), "after navigation");
+        Assert.assertEquals(lookups.size(), 2);
+    }
+
+    @Test(groups = {"unit"})
+    public void wrappedElementIsLookedUpFresh() {
+        WebElement fresh = element("fresh");
+        found.add(element("cached"));
+        found.add(fresh);
+
+        page.username.getText();
+        Assert.assertSame(((WrapsElement) page.username).getWrappedElement(), fresh);
+        // Later calls use the element handed out
+        Assert.assertEquals(page.username.getText(), "fresh");
+        Assert.assertEquals(lookups.size(), 2);
+    }
+
+    @Test(groups = {"unit"})
+    public void toStringCostsNoLookup() {
+        Assert.assertTrue(page.username.toString().startsWith("Proxy element for: "), page.username.toString());
+        Assert.assertTrue(lookups.isEmpty());
+    }
+
+    private Page initPage(boolean cacheEnabled) {
+        SearchContext searchContext = FakeDriver.driver((method, args) -> {
+            if (!method.equals("findElement")) {
+                return FakeDriver.unsupported(method);
+            }
+            lookups.add((By) args[0]);
+            return found.removeFirst();
+        });
+        factory = new CachingElementLocatorFactory(searchContext, cacheEnabled);
+        Page initialized = new Page();
+        PageFactory.initElements(new CachingFieldDecorator(factory), initialized);
+        return initialized;
+    }
+
+    private static WebElement element(String text) {
+        return FakeDriver.element("element '" + text + "'",
+                (method, args) -> method.equals("getText") ? text : FakeDriver.unsupported(method));
+    }
+
+    private static WebElement staleElement() {
+        return FakeDriver.element("stale element", (method, args) -> {
+            throw new StaleElementReferenceException("element is not attached to the page document");
+        });
+    }
+
+    static final class Page {
+        @FindBy(id = "user-name")
+        WebElement username;
+
+        @Uncached
+        @FindBy(css = "h3[data-test='error']")
+        WebElement error;
+    }
+}
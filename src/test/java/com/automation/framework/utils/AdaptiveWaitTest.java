@@ -0,0 +1,138 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class AdaptiveWaitTest {
+    private Path statsFile;
+    private WaitStats stats;
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUp() throws IOException {
+        statsFile = Files.createTempFile("wait-stats", ".properties");
+        Files.delete(statsFile);
+        stats = new WaitStats(statsFile, 3.0);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(statsFile);
+    }
+
+    @Test(groups = {"unit"})
+    public void keyOfLambdaIsNull() {
+        Function<WebDriver, Boolean> condition = driver -> true;
+        Assert.assertNull(AdaptiveWait.keyOf(condition));
+    }
+
+    @Test(groups = {"unit"})
+    public void keyOfDropsSessionAndObservedState() {
+        Assert.assertEquals(AdaptiveWait.keyOf(described("visibility of [[ChromeDriver: chrome on linux (4f2a)] -> id: user-name]")),
+                "visibility of id: user-name]");
+        Assert.assertEquals(AdaptiveWait.keyOf(described("title to be \"Products\". Current title: \"Swag Labs\"")),
+                "title to be \"Products\"");
+    }
+
+    @Test(groups = {"unit"})
+    public void pollingBacksOffUpToTheMaximum() {
+        PollRecorder condition = new PollRecorder("backoff", 6);
+        wait(10, 40, 2.0).until(condition);
+
+        List<Long> gaps = condition.gaps();
+        long[] expected = {10, 20, 40, 40, 40};
+        Assert.assertEquals(gaps.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertTrue(gaps.get(i) >= expected[i] - 1, "poll " + i + " came after " + gaps.get(i) + " ms");
+        }
+        // Capped: the interval would be 80 and 160 ms without the maximum
+        Assert.assertTrue(gaps.get(4) < 80, "last poll came after " + gaps.get(4) + " ms");
+    }
+
+    @Test(groups = {"unit"})
+    public void firstPollWaitsForTheLearnedTime() {
+        PollRecorder condition = new PollRecorder("learned", 2);
+        stats.record(condition.toString(), 200);
+        wait(10, 40, 2.0).until(condition);
+
+        Assert.assertTrue(condition.gaps().get(0) >= 150, "first poll came after " + condition.gaps().get(0) + " ms");
+    }
+
+    @Test(groups = {"unit"})
+    public void satisfiedWaitIsLearned() {
+        PollRecorder condition = new PollRecorder("recorded", 2);
+        Assert.assertEquals(stats.getTypicalMillis(condition.toString()), -1.0);
+        wait(10, 40, 2.0).until(condition);
+        Assert.assertTrue(stats.getTypicalMillis(condition.toString()) >= 0);
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = TimeoutException.class)
+    public void unsatisfiedWaitTimesOut() {
+        new AdaptiveWait(null, Duration.ofMillis(100), 10, 40, 2.0, stats, Duration.ZERO)
+                .until(new PollRecorder("never", Integer.MAX_VALUE));
+    }
+
+    private AdaptiveWait wait(long initialPollMillis, long maxPollMillis, double backoff) {
+        return new AdaptiveWait(null, Duration.ofSeconds(5), initialPollMillis, maxPollMillis, backoff, stats,
+                Duration.ZERO);
+    }
+
+    private static Function<WebDriver, Boolean> described(String description) {
+        return new Function<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return true;
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+
+    /**
+     * Condition that holds on the given poll and records when each poll happened
+     */
+    private static final class PollRecorder implements Function<WebDriver, Boolean> {
+        private final String name;
+        private final int satisfiedOnPoll;
+        private final List<Long> polls = new ArrayList<>();
+
+        private PollRecorder(String name, int satisfiedOnPoll) {
+            this.name = name;
+            this.satisfiedOnPoll = satisfiedOnPoll;
+        }
+
+        @Override
+        public Boolean apply(WebDriver driver) {
+            polls.add(System.nanoTime());
+            return polls.size() >= satisfiedOnPoll;
+        }
+
+        private List<Long> gaps() {
+            List<Long> gaps = new ArrayList<>();
+            for (int i = 1; i < polls.size(); i++) {
+                gaps.add(TimeUnit.NANOSECONDS.toMillis(polls.get(i) - polls.get(i - 1)));
+            }
+            return gaps;
+        }
+
+        @Override
+        public String toString() {
+            return "poll recorder " + name;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.automation.framework.utils;
+
+import com.automation.framework.utils.CompositeCondition.Mode;
+import com.automation.framework.utils.CompositeCondition.Result;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CompositeConditionTest {
+
+    @Test(groups = {"unit"})
+    public void allNeedsEveryCondition() {
+        Assert.assertTrue(result(true, true).satisfies(Mode.ALL));
+        Assert.assertFalse(result(true, false).satisfies(Mode.ALL));
+    }
+
+    @Test(groups = {"unit"})
+    public void anyAndFirstNeedOneCondition() {
+        Assert.assertTrue(result(false, true).satisfies(Mode.ANY));
+        Assert.assertTrue(result(false, true).satisfies(Mode.FIRST));
+        Assert.assertFalse(result(false, false).satisfies(Mode.ANY));
+        Assert.assertFalse(result(false, false).satisfies(Mode.FIRST));
+    }
+
+    @Test(groups = {"unit"})
+    public void firstHeldIsReported() {
+        Assert.assertEquals(result(false, true, true).getFirstHeld(), 1);
+        Assert.assertEquals(result(false, false).getFirstHeld(), -1);
+    }
+
+    @Test(groups = {"unit"})
+    public void evaluatesAllConditionsInOneScript() {
+        WebElement inventory = FakeDriver.element("inventory");
+        AtomicInteger scripts = new AtomicInteger();
+        WebDriver driver = countingScriptDriver(scripts, Map.of(
+                "held", List.of(false, true),
+                "elements", Arrays.asList(null, inventory)));
+
+        Result result = CompositeCondition.anyOf(
+                DomCondition.visible(By.cssSelector("h3[data-test='error']")),
+                DomCondition.visible(By.id("inventory_container"))).apply(driver);
+
+        Assert.assertEquals(scripts.get(), 1);
+        Assert.assertNotNull(result);
+        Assert.assertFalse(result.held(0));
+        Assert.assertTrue(result.held(1));
+        Assert.assertSame(result.getElement(1), inventory);
+        Assert.assertNull(result.getElement(0));
+    }
+
+    @Test(groups = {"unit"})
+    public void unsatisfiedEvaluationYieldsNull() {
+        WebDriver driver = countingScriptDriver(new AtomicInteger(), Map.of(
+                "held", List.of(true, false),
+                "elements", Arrays.asList(FakeDriver.element("user name"), null)));
+
+        Assert.assertNull(CompositeCondition.allOf(
+                DomCondition.visible(By.id("user-name")),
+                DomCondition.visible(By.id("password"))).apply(driver));
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = IllegalArgumentException.class)
+    public void needsAtLeastOneCondition() {
+        CompositeCondition.allOf();
+    }
+
+    private static Result result(boolean... held) {
+        return new Result(held, new WebElement[held.length]);
+    }
+
+    private static WebDriver countingScriptDriver(AtomicInteger scripts, Map<String, ?> response) {
+        return FakeDriver.scriptDriver(args -> {
+            scripts.incrementAndGet();
+            return response;
+        });
+    }
+}
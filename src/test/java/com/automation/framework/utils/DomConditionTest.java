@@ -0,0 +1,75 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class DomConditionTest {
+
+    private static final By CUSTOM = new By() {
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            return Collections.emptyList();
+        }
+    };
+
+    @Test(groups = {"unit"})
+    public void scriptArgumentsCarryLocatorKindAndExpectation() {
+        Assert.assertEquals(DomCondition.attributeEquals(By.id("status"), "value", "done").scriptArguments(),
+                Arrays.asList("id", "status", "attribute", "value", "done", null));
+        Assert.assertEquals(DomCondition.textPresent(By.xpath("//h3"), "Epic").scriptArguments(),
+                Arrays.asList("xpath", "//h3", "text", "", "Epic", null));
+    }
+
+    @Test(groups = {"unit"})
+    public void elementConditionsPassTheElementInsteadOfALocator() {
+        WebElement element = element(true, true, "");
+        Assert.assertEquals(DomCondition.clickable(element).scriptArguments(),
+                Arrays.asList(null, null, "clickable", "", "", element));
+    }
+
+    @Test(groups = {"unit"})
+    public void onlyRemotableLocatorsAndElementsAreScriptable() {
+        Assert.assertTrue(DomCondition.visible(By.cssSelector("div")).isScriptable());
+        Assert.assertTrue(DomCondition.visible(element(true, true, "")).isScriptable());
+        Assert.assertFalse(DomCondition.visible(CUSTOM).isScriptable());
+    }
+
+    @Test(groups = {"unit"})
+    public void fallbackConditionChecksTheFirstMatch() {
+        WebElement hidden = element(false, true, "Sauce");
+        WebElement shown = element(true, false, "Sauce Labs");
+
+        Assert.assertNull(fallback(DomCondition.visible(By.id("x")), hidden));
+        Assert.assertSame(fallback(DomCondition.visible(By.id("x")), shown), shown);
+        Assert.assertNull(fallback(DomCondition.clickable(By.id("x")), shown));
+        Assert.assertSame(fallback(DomCondition.textPresent(By.id("x"), "Labs"), shown), shown);
+        Assert.assertNull(fallback(DomCondition.present(By.id("x"))));
+    }
+
+    @Test(groups = {"unit"})
+    public void goneHoldsForMissingOrHiddenElements() {
+        Assert.assertEquals(fallback(DomCondition.gone(By.id("x"))), Boolean.TRUE);
+        Assert.assertEquals(fallback(DomCondition.gone(By.id("x")), element(false, true, "")), Boolean.TRUE);
+        Assert.assertNull(fallback(DomCondition.gone(By.id("x")), element(true, true, "")));
+    }
+
+    private static Object fallback(DomCondition condition, WebElement... found) {
+        return condition.toExpectedCondition().apply(FakeDriver.finding(found));
+    }
+
+    private static WebElement element(boolean displayed, boolean enabled, String text) {
+        return FakeDriver.element("element '" + text + "'", (method, args) -> switch (method) {
+            case "isDisplayed" -> displayed;
+            case "isEnabled" -> enabled;
+            case "getText" -> text;
+            default -> FakeDriver.unsupported(method);
+        });
+    }
+}
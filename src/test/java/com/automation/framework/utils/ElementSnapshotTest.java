@@ -0,0 +1,108 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ElementSnapshotTest {
+
+    @Test(groups = {"unit"})
+    public void readsEveryLocatorInOneScript() {
+        WebElement name = element("Sauce Labs Backpack");
+        WebElement price = element("$29.99");
+        List<Object[]> calls = new ArrayList<>();
+        WebDriver driver = recordingScriptDriver(calls, List.of(
+                state(name, "div", "Sauce Labs Backpack", Map.of("class", "inventory_item_name"), 10, 20, 200, 30),
+                state(price, "div", "$29.99", Map.of(), 10, 60, 80, 24)));
+
+        List<ElementState> states = ElementSnapshot.of(driver, List.of("class"),
+                By.className("inventory_item_name"), By.cssSelector(".inventory_item_price"));
+
+        Assert.assertEquals(calls.size(), 1);
+        Assert.assertEquals(calls.get(0)[0], List.of(List.of("class name", "inventory_item_name"),
+                List.of("css selector", ".inventory_item_price")));
+        Assert.assertEquals(states.size(), 2);
+
+        ElementState first = states.get(0);
+        Assert.assertSame(first.getElement(), name);
+        Assert.assertEquals(first.getTagName(), "div");
+        Assert.assertEquals(first.getText(), "Sauce Labs Backpack");
+        Assert.assertEquals(first.getAttribute("class"), "inventory_item_name");
+        Assert.assertTrue(first.isDisplayed());
+        Assert.assertEquals(first.getRect(), new Rectangle(10, 20, 30, 200));
+
+        // Requested attributes the element lacks are present as null
+        Assert.assertTrue(states.get(1).getAttributes().containsKey("class"));
+        Assert.assertNull(states.get(1).getAttribute("class"));
+    }
+
+    @Test(groups = {"unit"})
+    public void noElementsNeedNoScript() {
+        List<Object[]> calls = new ArrayList<>();
+        Assert.assertTrue(ElementSnapshot.of(recordingScriptDriver(calls, List.of()), List.of(), List.of("id")).isEmpty());
+        Assert.assertTrue(calls.isEmpty());
+    }
+
+    @Test(groups = {"unit"})
+    public void driversWithoutScriptsAreReadPerElement() {
+        WebDriver driver = FakeDriver.driver((method, args) -> FakeDriver.unsupported(method));
+
+        List<ElementState> states = ElementSnapshot.of(driver, List.of(element("Login")), List.of("value"));
+
+        Assert.assertEquals(states.size(), 1);
+        Assert.assertEquals(states.get(0).getText(), "Login");
+        Assert.assertEquals(states.get(0).getTagName(), "input");
+        Assert.assertEquals(states.get(0).getAttribute("value"), "value of Login");
+        Assert.assertEquals(states.get(0).getRect(), new Rectangle(1, 2, 3, 4));
+    }
+
+    @Test(groups = {"unit"}, expectedExceptions = UnsupportedOperationException.class)
+    public void statesAreImmutable() {
+        new ElementState(null, "a", "", Map.of(), true, true, false, new Rectangle(0, 0, 0, 0))
+                .getAttributes().put("href", "/");
+    }
+
+    private static Map<String, Object> state(WebElement element, String tag, String text, Map<String, String> attributes,
+                                             long x, long y, long width, long height) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("element", element);
+        state.put("tagName", tag);
+        state.put("text", text);
+        state.put("attributes", attributes);
+        state.put("displayed", true);
+        state.put("enabled", true);
+        state.put("selected", false);
+        state.put("x", x);
+        state.put("y", y);
+        state.put("width", width);
+        state.put("height", height);
+        return state;
+    }
+
+    private static WebDriver recordingScriptDriver(List<Object[]> calls, Object response) {
+        return FakeDriver.scriptDriver(args -> {
+            calls.add(args);
+            return response;
+        });
+    }
+
+    private static WebElement element(String text) {
+        return FakeDriver.element("element '" + text + "'", (method, args) -> switch (method) {
+            case "getText" -> text;
+            case "getTagName" -> "input";
+            case "getAttribute" -> args[0] + " of " + text;
+            case "isDisplayed", "isEnabled" -> true;
+            case "isSelected" -> false;
+            case "getRect" -> new Rectangle(1, 2, 3, 4);
+            default -> FakeDriver.unsupported(method);
+        });
+    }
+}
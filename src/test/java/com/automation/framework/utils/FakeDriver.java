@@ -0,0 +1,83 @@
+package com.automation.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Proxy-backed WebDriver and WebElement fakes for unit tests.
+ * Each fake answers the calls a test expects through {@link Answers}; identity methods are handled here,
+ * and {@link #unsupported(String)} fails any call the test did not plan for.
+ */
+public final class FakeDriver {
+
+    /**
+     * Answers a call to a fake by method name
+     */
+    @FunctionalInterface
+    public interface Answers {
+        Object answer(String method, Object[] args) throws Throwable;
+    }
+
+    private FakeDriver() {
+    }
+
+    /**
+     * Driver without script support
+     */
+    public static WebDriver driver(Answers answers) {
+        return proxy("driver", answers, WebDriver.class);
+    }
+
+    /**
+     * Driver whose findElements returns the given elements for any locator
+     */
+    public static WebDriver finding(WebElement... found) {
+        return driver((method, args) -> method.equals("findElements") ? Arrays.asList(found) : unsupported(method));
+    }
+
+    /**
+     * Driver that answers executeScript with the given function of the script arguments
+     */
+    public static WebDriver scriptDriver(Function<Object[], Object> script) {
+        return proxy("script driver", (method, args) -> method.equals("executeScript")
+                ? script.apply((Object[]) args[1]) : unsupported(method), WebDriver.class, JavascriptExecutor.class);
+    }
+
+    /**
+     * Element that supports no calls besides identity, for tests that only pass it around
+     */
+    public static WebElement element(String name) {
+        return element(name, (method, args) -> unsupported(method));
+    }
+
+    public static WebElement element(String name, Answers answers) {
+        return proxy(name, answers, WebElement.class);
+    }
+
+    /**
+     * Fail a call the fake does not answer; declared to return a value so it can end a switch expression
+     */
+    public static Object unsupported(String method) {
+        throw new UnsupportedOperationException(method);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(String name, Answers answers, Class<T> type, Class<?>... extraTypes) {
+        Class<?>[] types = new Class<?>[extraTypes.length + 1];
+        types[0] = type;
+        System.arraycopy(extraTypes, 0, types, 1, extraTypes.length);
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> name;
+            default -> answers.answer(method.getName(), args);
+        };
+        return (T) Proxy.newProxyInstance(FakeDriver.class.getClassLoader(), types, handler);
+    }
+}
@@ -0,0 +1,86 @@
+package com.automation.framework.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class WaitStatsTest {
+    private Path statsFile;
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUp() throws IOException {
+        statsFile = Files.createTempFile("wait-stats", ".properties");
+        Files.delete(statsFile);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(statsFile);
+    }
+
+    @Test(groups = {"unit"})
+    public void unknownWaitHasNoTypicalTime() {
+        WaitStats stats = new WaitStats(statsFile, 3.0);
+        Assert.assertEquals(stats.getTypicalMillis("visibility of id: user-name"), -1.0);
+        Assert.assertEquals(stats.getTypicalMillis(null), -1.0);
+    }
+
+    @Test(groups = {"unit"})
+    public void firstSamplesAreAveraged() {
+        WaitStats stats = new WaitStats(statsFile, 3.0);
+        stats.record("wait", 100);
+        stats.record("wait", 200);
+        stats.record("wait", 300);
+        Assert.assertEquals(stats.getTypicalMillis("wait"), 200.0, 0.001);
+    }
+
+    @Test(groups = {"unit"})
+    public void laterSamplesKeepAMinimumWeight() {
+        WaitStats stats = new WaitStats(statsFile, 3.0);
+        for (int i = 0; i < 100; i++) {
+            stats.record("wait", 100);
+        }
+        stats.record("wait", 1100);
+        // A plain mean would move by 1000/101; the floor weight of 0.1 moves it by 100
+        Assert.assertEquals(stats.getTypicalMillis("wait"), 200.0, 0.001);
+    }
+
+    @Test(groups = {"unit"})
+    public void nullKeyIsNotRecorded() {
+        WaitStats stats = new WaitStats(statsFile, 3.0);
+        stats.record(null, 100);
+        stats.save();
+        Assert.assertEquals(new WaitStats(statsFile, 3.0).getTypicalMillis(null), -1.0);
+    }
+
+    @Test(groups = {"unit"})
+    public void averagesSurviveSaveAndLoad() {
+        WaitStats stats = new WaitStats(statsFile, 3.0);
+        stats.record("visibility of id: user-name", 120);
+        stats.record("visibility of id: user-name", 180);
+        stats.record("title to be \"Products\"", 40);
+        stats.save();
+
+        WaitStats loaded = new WaitStats(statsFile, 3.0);
+        Assert.assertEquals(loaded.getTypicalMillis("visibility of id: user-name"), 150.0, 0.001);
+        Assert.assertEquals(loaded.getTypicalMillis("title to be \"Products\""), 40.0, 0.001);
+
+        // The sample count is restored too, so new samples keep their weight
+        loaded.record("visibility of id: user-name", 450);
+        Assert.assertEquals(loaded.getTypicalMillis("visibility of id: user-name"), 250.0, 0.001);
+    }
+
+    @Test(groups = {"unit"})
+    public void malformedEntriesAreIgnored() throws IOException {
+        Files.writeString(statsFile, "good=2,75.0\nbad=abc\nshort=3\n");
+        WaitStats stats = new WaitStats(statsFile, 3.0);
+        Assert.assertEquals(stats.getTypicalMillis("good"), 75.0, 0.001);
+        Assert.assertEquals(stats.getTypicalMillis("bad"), -1.0);
+        Assert.assertEquals(stats.getTypicalMillis("short"), -1.0);
+    }
+}